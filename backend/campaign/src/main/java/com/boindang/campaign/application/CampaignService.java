@@ -30,9 +30,11 @@ public class CampaignService {
 	private final CampaignApplicationRepository applicationRepository;
 
 	@Transactional // ✅ 반드시 있어야 DB에 상태가 반영됨
-	public CampaignListResponse getCampaigns(String status, int size, int page, Long userId) {
+	public CampaignListResponse getCampaigns(String status, String mainCategory, String subCategory, String hashtag,
+		int size, int page, Long userId) {
 		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-		List<Campaign> allCampaigns = campaignRepository.findAll();
+		List<Campaign> allCampaigns = campaignRepository.findAllByFilter(
+			normalizeFilter(mainCategory), normalizeFilter(subCategory), normalizeHashtag(hashtag));
 
 		// ✅ 상태 한 번만 계산 + DB 반영
 		Map<Long, CampaignStatus> statusMap = allCampaigns.stream()
@@ -95,6 +97,7 @@ public class CampaignService {
 			.orElseThrow(() -> new CampaignNotFoundException("해당 체험단이 존재하지 않습니다."));
 
 		campaign.getNotices().size(); // Lazy 초기화
+		campaign.getHashtags().size(); // Lazy 초기화
 
 		boolean isApplied = applicationRepository.existsByCampaignIdAndUserId(campaign.getId(), userId);
 		return CampaignDetailResponse.from(campaign, isApplied);
@@ -110,5 +113,18 @@ public class CampaignService {
 			))
 			.collect(Collectors.toList());
 	}
+
+	private String normalizeFilter(String value) {
+		return (value == null || value.isBlank()) ? null : value.trim();
+	}
+
+	// '#제로' 처럼 # 을 붙여 보내도 동일하게 조회
+	private String normalizeHashtag(String hashtag) {
+		String normalized = normalizeFilter(hashtag);
+		if (normalized != null && normalized.startsWith("#")) {
+			normalized = normalizeFilter(normalized.substring(1));
+		}
+		return normalized;
+	}
 }
 
@@ -11,11 +11,14 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.boindang.campaign.common.exception.CampaignException;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_campaign_category", columnList = "main_category, sub_category"))
 public class Campaign {
 
     @Id
@@ -29,8 +32,12 @@ public class Campaign {
     private String mainCategory;          // 제품 대분류
     private String subCategory;          // 제품 소분류
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "campaign_hashtags", joinColumns = @JoinColumn(name = "campaign_id"))
+    // 목록 조회 시 N+1을 피하기 위해 LAZY + 배치 로딩 (hashtag → campaign_id 역색인으로 필터링)
+    // ddl-auto: none 이므로 인덱스는 data/campaign_db_indexes.sql 로 생성
+    @ElementCollection
+    @BatchSize(size = 100)
+    @CollectionTable(name = "campaign_hashtags", joinColumns = @JoinColumn(name = "campaign_id"),
+        indexes = @Index(name = "idx_campaign_hashtags_hashtag", columnList = "hashtag, campaign_id"))
     @Column(name = "hashtag")
     private List<String> hashtags = new ArrayList<>();
 
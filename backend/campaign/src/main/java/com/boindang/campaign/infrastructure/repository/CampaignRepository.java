@@ -3,10 +3,26 @@ package com.boindang.campaign.infrastructure.repository;
 import com.boindang.campaign.domain.model.Campaign;
 import com.boindang.campaign.domain.model.CampaignStatus;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CampaignRepository extends JpaRepository<Campaign, Long> {
 	Page<Campaign> findByStatus(CampaignStatus status, Pageable pageable);
+
+	// 해시태그 조건은 campaign_hashtags(hashtag, campaign_id) 인덱스를 타는 서브쿼리로 조회
+	@Query("""
+		SELECT c FROM Campaign c
+		WHERE (:mainCategory IS NULL OR c.mainCategory = :mainCategory)
+		  AND (:subCategory IS NULL OR c.subCategory = :subCategory)
+		  AND (:hashtag IS NULL OR c.id IN (
+		      SELECT hc.id FROM Campaign hc JOIN hc.hashtags h WHERE h = :hashtag))
+		""")
+	List<Campaign> findAllByFilter(@Param("mainCategory") String mainCategory,
+		@Param("subCategory") String subCategory,
+		@Param("hashtag") String hashtag);
 }
@@ -24,7 +24,7 @@ import com.boindang.campaign.presentation.dto.response.MyApplicationResponse;
 @Tag(name = "체험단", description = "체험단 관련 API입니다.")
 public interface CampaignApi {
 
-	@Operation(summary = "체험단 목록 조회", description = "전체 체험단 목록을 상태 기준으로 조회합니다. 상태(status)는 '모집 예정', '진행중', '종료' 중 선택 가능합니다.")
+	@Operation(summary = "체험단 목록 조회", description = "전체 체험단 목록을 상태 기준으로 조회합니다. 상태(status)는 '모집 예정', '진행중', '종료' 중 선택 가능하며, 대분류/소분류/해시태그로 필터링할 수 있습니다.")
 	@io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "체험단 목록 조회에 성공하였습니다.",
 			content = @Content(mediaType = "application/json",
@@ -140,6 +140,15 @@ public interface CampaignApi {
 		@Parameter(description = "체험단 상태 필터 ('모집 예정', '진행중', '종료')")
 		@RequestParam(required = false) String status,
 
+		@Parameter(description = "제품 대분류 필터", example = "음료")
+		@RequestParam(required = false) String mainCategory,
+
+		@Parameter(description = "제품 소분류 필터", example = "탄산음료")
+		@RequestParam(required = false) String subCategory,
+
+		@Parameter(description = "해시태그 필터 (# 생략 가능)", example = "제로")
+		@RequestParam(required = false) String hashtag,
+
 		@Parameter(description = "페이지 크기", example = "5")
 		@RequestParam(defaultValue = "5") int size,
 
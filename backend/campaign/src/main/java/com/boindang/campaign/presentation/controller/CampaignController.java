@@ -34,6 +34,9 @@ public class CampaignController implements CampaignApi {
 	public ApiResponses<CampaignListResponse> getCampaigns(
 		@RequestHeader("X-User-Id") String userId,
 		@RequestParam(required = false) String status,
+		@RequestParam(required = false) String mainCategory,
+		@RequestParam(required = false) String subCategory,
+		@RequestParam(required = false) String hashtag,
 		@RequestParam(defaultValue = "5") int size,
 		@RequestParam(defaultValue = "0") int page
 	) {
@@ -41,7 +44,7 @@ public class CampaignController implements CampaignApi {
 			throw new UserException("유효하지 않은 사용자입니다.");
 		}
 
-		return ApiResponses.success(campaignService.getCampaigns(status, size, page, Long.parseLong(userId)));
+		return ApiResponses.success(campaignService.getCampaigns(status, mainCategory, subCategory, hashtag, size, page, Long.parseLong(userId)));
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package com.boindang.campaign.presentation.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.boindang.campaign.domain.model.Campaign;
@@ -38,7 +39,7 @@ public class CampaignSummaryResponse {
 			.status(convertStatusToLabel(campaign.getStatus()))
 			.capacity(campaign.getCapacity())
 			.currentApplicants(campaign.getCurrentApplicants())
-			.hashtags(campaign.getHashtags())
+			.hashtags(new ArrayList<>(campaign.getHashtags())) // 트랜잭션 안에서 배치 로딩
 			.isApplied(isApplied)
 			.build();
 	}
@@ -0,0 +1,76 @@
+package com.boindang.encyclopedia.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+/**
+ * 벤치마크용 성분/검색어 코퍼스
+ *
+ * - benchmark-ingredients.tsv: data/encyclopedia_db_encyclopedia_json.sql 의 성분 요약
+ * - benchmark-queries.tsv: 성분별 정확 일치, 접두어, 초성, 입력 중인 자모, 모음 오타, 영문명 검색어
+ * - benchmark-documents.ndjson: 같은 성분의 ingredients 인덱스 _source 원문 (한 줄에 한 문서)
+ */
+final class BenchmarkCorpus {
+
+	private BenchmarkCorpus() {
+	}
+
+	static List<IngredientDictionary> ingredients() {
+		List<IngredientDictionary> ingredients = new ArrayList<>();
+		for (String[] cols : read("/benchmark-ingredients.tsv")) {
+			ingredients.add(IngredientDictionary.builder()
+				.id(cols[0])
+				.name(cols[1])
+				.engName(cols[2])
+				.type(cols[3])
+				.category(cols[4])
+				.riskLevel(IngredientDictionary.RiskLevel.from(cols[5]))
+				.build());
+		}
+		return ingredients;
+	}
+
+	static String[] queries(String kind) {
+		List<String> queries = new ArrayList<>();
+		for (String[] cols : read("/benchmark-queries.tsv")) {
+			if (cols[0].equals(kind)) {
+				queries.add(cols[1]);
+			}
+		}
+		if (queries.isEmpty()) {
+			throw new IllegalArgumentException("검색어가 없는 종류입니다: " + kind);
+		}
+		return queries.toArray(String[]::new);
+	}
+
+	static List<String> documents() {
+		List<String> documents = new ArrayList<>();
+		for (String[] cols : read("/benchmark-documents.ndjson")) {
+			documents.add(cols[0]);
+		}
+		return documents;
+	}
+
+	private static List<String[]> read(String resource) {
+		try (InputStream in = BenchmarkCorpus.class.getResourceAsStream(resource);
+			 BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			List<String[]> rows = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) continue;
+				rows.add(line.split("\t", -1));
+			}
+			return rows;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
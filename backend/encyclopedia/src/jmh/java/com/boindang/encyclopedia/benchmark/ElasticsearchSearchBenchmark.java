@@ -0,0 +1,85 @@
+package com.boindang.encyclopedia.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.boindang.encyclopedia.application.AutocompleteSearchService;
+import com.boindang.encyclopedia.application.FuzzySearchService;
+import com.boindang.encyclopedia.application.IngredientPopularityScores;
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * Elasticsearch 검색 벤치마크 (-Djmh.es.url 로 대상 클러스터 지정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ElasticsearchSearchBenchmark {
+
+	@Param({"exact", "prefix", "typo", "english"})
+	public String kind;
+
+	private RestHighLevelClient client;
+	private AutocompleteSearchService autocompleteSearchService;
+	private FuzzySearchService fuzzySearchService;
+
+	private String[] queries;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		client = new RestHighLevelClient(RestClient.builder(HttpHost.create(System.getProperty("jmh.es.url"))));
+		fuzzySearchService = new FuzzySearchService(client);
+		autocompleteSearchService = new AutocompleteSearchService(client, fuzzySearchService, null, new IngredientPopularityScores(null));
+		queries = BenchmarkCorpus.queries(kind);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		client.close();
+	}
+
+	private String nextQuery() {
+		String query = queries[cursor];
+		cursor = (cursor + 1) % queries.length;
+		return query;
+	}
+
+	@Benchmark
+	public IngredientSearchBackend.CombinedSearchResult autocompleteWithFuzzy() {
+		return autocompleteSearchService.searchWithFuzzyFallback(nextQuery());
+	}
+
+	@Benchmark
+	public EncyclopediaSearchResponse fuzzy() {
+		return fuzzySearchService.searchFuzzy(nextQuery());
+	}
+
+	@Benchmark
+	public SearchResponse exact() throws IOException {
+		SearchSourceBuilder builder = new SearchSourceBuilder()
+			.query(QueryBuilders.termQuery("name.keyword", nextQuery()))
+			.size(1);
+		return client.search(new SearchRequest("ingredients").source(builder), RequestOptions.DEFAULT);
+	}
+}
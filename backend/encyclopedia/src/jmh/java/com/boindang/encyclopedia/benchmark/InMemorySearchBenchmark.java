@@ -0,0 +1,103 @@
+package com.boindang.encyclopedia.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.boindang.encyclopedia.application.ChoseongAutocompleteIndex;
+import com.boindang.encyclopedia.application.IngredientNameDictionary;
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+import com.boindang.encyclopedia.application.JamoPrefixIndex;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.infrastructure.LuceneIngredientIndex;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 외부 서비스 없이 실행되는 인메모리/내장 Lucene 검색 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InMemorySearchBenchmark {
+
+	@Param({"exact", "prefix", "choseong", "jamo", "typo", "english"})
+	public String kind;
+
+	private final ChoseongAutocompleteIndex choseongIndex = new ChoseongAutocompleteIndex();
+	private final JamoPrefixIndex jamoPrefixIndex = new JamoPrefixIndex();
+	private final IngredientNameDictionary nameDictionary = new IngredientNameDictionary();
+	private LuceneIngredientIndex luceneIndex;
+	private Path luceneDir;
+
+	private String[] queries;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		List<IngredientDictionary> ingredients = BenchmarkCorpus.ingredients();
+		choseongIndex.rebuild(ingredients);
+		jamoPrefixIndex.rebuild(ingredients);
+		nameDictionary.rebuild(ingredients);
+
+		luceneDir = Files.createTempDirectory("jmh-lucene");
+		luceneIndex = new LuceneIngredientIndex(luceneDir.toString());
+		luceneIndex.open();
+		luceneIndex.rebuild(ingredients);
+
+		queries = BenchmarkCorpus.queries(kind);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		luceneIndex.close();
+		try (Stream<Path> files = Files.walk(luceneDir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	private String nextQuery() {
+		String query = queries[cursor];
+		cursor = (cursor + 1) % queries.length;
+		return query;
+	}
+
+	@Benchmark
+	public List<EncyclopediaSearchResponse> choseongTrie() {
+		return choseongIndex.search(nextQuery());
+	}
+
+	@Benchmark
+	public List<EncyclopediaSearchResponse> jamoPrefix() {
+		return jamoPrefixIndex.search(nextQuery(), 10);
+	}
+
+	@Benchmark
+	public Object dictionaryExact() {
+		return nameDictionary.findId(nextQuery());
+	}
+
+	@Benchmark
+	public IngredientSearchBackend.CombinedSearchResult luceneAutocompleteWithFuzzy() {
+		return luceneIndex.searchWithFuzzyFallback(nextQuery());
+	}
+
+	@Benchmark
+	public List<EncyclopediaSearchResponse> luceneContaining() {
+		return luceneIndex.searchContaining(nextQuery());
+	}
+}
@@ -0,0 +1,119 @@
+package com.boindang.encyclopedia.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * MySQL 검색 벤치마크 (-Djmh.mysql.url/user/password 로 대상 DB 지정)
+ *
+ * - likeScan: 기존 /search/mysql 의 LIKE '%q%' 전체 스캔
+ * - prefix / fulltext / similarity: data/encyclopedia_db_search_indexes.sql 적용 후 인덱스 경로
+ *   (MysqlIngredientSearchBackend 와 같은 SQL)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MysqlSearchBenchmark {
+
+	private static final String COLUMNS = "e.id, e.name, e.eng_name, e.ingredient_type, "
+		+ "COALESCE(e.risk_level, JSON_VALUE(e.data, '$.riskLevel'))";
+
+	@Param({"exact", "prefix", "typo"})
+	public String kind;
+
+	private Connection connection;
+	private PreparedStatement likeScan;
+	private PreparedStatement prefix;
+	private PreparedStatement fulltext;
+	private PreparedStatement similarity;
+	private PreparedStatement exact;
+
+	private String[] queries;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection(System.getProperty("jmh.mysql.url"),
+			System.getProperty("jmh.mysql.user"), System.getProperty("jmh.mysql.password"));
+		likeScan = connection.prepareStatement("SELECT * FROM encyclopedia_json WHERE name LIKE CONCAT('%', ?, '%')");
+		prefix = connection.prepareStatement("SELECT " + COLUMNS
+			+ " FROM encyclopedia_json e WHERE e.name LIKE CONCAT(?, '%') ORDER BY e.name LIMIT 10");
+		fulltext = connection.prepareStatement("SELECT " + COLUMNS
+			+ " FROM encyclopedia_json e WHERE MATCH(e.name) AGAINST (? IN BOOLEAN MODE) ORDER BY e.name LIMIT 100");
+		similarity = connection.prepareStatement("SELECT " + COLUMNS
+			+ ", MATCH(e.name) AGAINST (? IN NATURAL LANGUAGE MODE) AS score FROM encyclopedia_json e"
+			+ " WHERE MATCH(e.name) AGAINST (? IN NATURAL LANGUAGE MODE) ORDER BY score DESC LIMIT 1");
+		exact = connection.prepareStatement("SELECT " + COLUMNS + " FROM encyclopedia_json e WHERE e.name = ?");
+		queries = BenchmarkCorpus.queries(kind);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	private String nextQuery() {
+		String query = queries[cursor];
+		cursor = (cursor + 1) % queries.length;
+		return query;
+	}
+
+	@Benchmark
+	public void likeScan(Blackhole bh) throws SQLException {
+		likeScan.setString(1, nextQuery());
+		consume(likeScan, bh);
+	}
+
+	@Benchmark
+	public void prefix(Blackhole bh) throws SQLException {
+		prefix.setString(1, nextQuery());
+		consume(prefix, bh);
+	}
+
+	@Benchmark
+	public void fulltext(Blackhole bh) throws SQLException {
+		fulltext.setString(1, "\"" + nextQuery() + "\"");
+		consume(fulltext, bh);
+	}
+
+	@Benchmark
+	public void similarity(Blackhole bh) throws SQLException {
+		String query = nextQuery();
+		similarity.setString(1, query);
+		similarity.setString(2, query);
+		consume(similarity, bh);
+	}
+
+	@Benchmark
+	public void exact(Blackhole bh) throws SQLException {
+		exact.setString(1, nextQuery());
+		consume(exact, bh);
+	}
+
+	private static void consume(PreparedStatement statement, Blackhole bh) throws SQLException {
+		try (ResultSet rs = statement.executeQuery()) {
+			int columns = rs.getMetaData().getColumnCount();
+			while (rs.next()) {
+				for (int i = 1; i <= columns; i++) {
+					bh.consume(rs.getObject(i));
+				}
+			}
+		}
+	}
+}
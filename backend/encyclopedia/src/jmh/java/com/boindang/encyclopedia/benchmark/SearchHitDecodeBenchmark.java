@@ -0,0 +1,115 @@
+package com.boindang.encyclopedia.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.search.SearchHit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.boindang.encyclopedia.application.mapper.SearchHitSummaryDecoder;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 검색 hit → 요약 응답 변환 벤치마크 (한 번에 10건, 자동완성 응답 크기)
+ *
+ * - source=full: _source 전체 문서 (기존 요청), source=summary: SUMMARY_FIELDS 만 포함 (source filtering)
+ * - sourceAsMap: 기존 from2(hit.getSourceAsMap()) / streaming: SearchHitSummaryDecoder
+ * - 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm, 전송량은 보조 카운터({@link Transfer})의 sourceBytes / requests 로 비교합니다.
+ *   (보조 카운터는 SampleTime 모드를 지원하지 않으므로 이 벤치마크는 AverageTime 으로 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchHitDecodeBenchmark {
+
+	private static final int HITS_PER_REQUEST = 10;
+
+	@Param({"full", "summary"})
+	public String source;
+
+	private BytesReference[] sources;
+	private int[] sourceLengths;
+	private int cursor;
+
+	/**
+	 * JSON 결과의 secondaryMetrics 에 기록되는 전송량 카운터 (iteration 마다 합산)
+	 * - 요청당 _source 바이트 = sourceBytes / requests
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Transfer {
+
+		public long requests;
+		public long sourceBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			requests = 0;
+			sourceBytes = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<String> documents = BenchmarkCorpus.documents();
+		sources = new BytesReference[documents.size()];
+		sourceLengths = new int[documents.size()];
+		for (int i = 0; i < documents.size(); i++) {
+			String json = documents.get(i);
+			if ("summary".equals(source)) {
+				ObjectNode filtered = ((ObjectNode) objectMapper.readTree(json)).retain(SearchHitSummaryDecoder.SUMMARY_FIELDS);
+				json = objectMapper.writeValueAsString(filtered);
+			}
+			byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			sources[i] = new BytesArray(bytes);
+			sourceLengths[i] = bytes.length;
+		}
+	}
+
+	@Benchmark
+	public EncyclopediaSearchResponse[] sourceAsMap(Transfer transfer) {
+		EncyclopediaSearchResponse[] results = new EncyclopediaSearchResponse[HITS_PER_REQUEST];
+		transfer.requests++;
+		for (int i = 0; i < HITS_PER_REQUEST; i++) {
+			Map<String, Object> map = nextHit(transfer).getSourceAsMap();
+			results[i] = EncyclopediaSearchResponse.from2(map);
+		}
+		return results;
+	}
+
+	@Benchmark
+	public EncyclopediaSearchResponse[] streaming(Transfer transfer) {
+		EncyclopediaSearchResponse[] results = new EncyclopediaSearchResponse[HITS_PER_REQUEST];
+		transfer.requests++;
+		for (int i = 0; i < HITS_PER_REQUEST; i++) {
+			results[i] = SearchHitSummaryDecoder.decode(nextHit(transfer));
+		}
+		return results;
+	}
+
+	// getSourceAsMap() 결과는 hit 에 캐싱되므로 매번 새 hit 을 만듦 (HLRC 응답 파싱과 같은 상태)
+	private SearchHit nextHit(Transfer transfer) {
+		SearchHit hit = new SearchHit(cursor);
+		hit.sourceRef(sources[cursor]);
+		transfer.sourceBytes += sourceLengths[cursor];
+		cursor = (cursor + 1) % sources.length;
+		return hit;
+	}
+}
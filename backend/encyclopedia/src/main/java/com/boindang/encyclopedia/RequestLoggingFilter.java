@@ -1,7 +1,10 @@
 package com.boindang.encyclopedia;
 
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.servlet.Filter;
@@ -10,24 +13,50 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
-
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 로깅 필터
+ *
+ * - DEBUG 레벨이 켜져 있을 때만, sample-rate 비율의 요청에 대해 메서드/URI 를 기록합니다. (기본 1%)
+ * - 헤더는 TRACE 레벨에서만 기록하며, 인증 관련 헤더 값은 가립니다.
+ * - actuator 요청(프로메테우스 스크랩 등)은 기록하지 않습니다.
+ */
+@Slf4j
 @Component
 public class RequestLoggingFilter implements Filter {
+
+	private static final Set<String> MASKED_HEADERS = Set.of("authorization", "cookie", "set-cookie");
+
+	private final double sampleRate;
+
+	public RequestLoggingFilter(@Value("${encyclopedia.request-log.sample-rate:0.01}") double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 		throws IOException, ServletException {
 
-		HttpServletRequest httpRequest = (HttpServletRequest) request;
-
-		// 요청 메서드와 URL 출력
-		System.out.println("[REQUEST] " + httpRequest.getMethod() + " " + httpRequest.getRequestURI());
-
-		// 헤더 정보 출력 (원한다면)
-		httpRequest.getHeaderNames().asIterator()
-			.forEachRemaining(headerName ->
-				System.out.println("[HEADER] " + headerName + ": " + httpRequest.getHeader(headerName)));
+		if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			logRequest((HttpServletRequest) request);
+		}
 
 		// 필터 체인 계속 진행
 		chain.doFilter(request, response);
 	}
+
+	private void logRequest(HttpServletRequest httpRequest) {
+		if (httpRequest.getRequestURI().startsWith("/actuator")) return;
+
+		// 요청 메서드와 URL 출력
+		log.debug("[REQUEST] {} {}", httpRequest.getMethod(), httpRequest.getRequestURI());
+
+		// 헤더 정보 출력
+		if (log.isTraceEnabled()) {
+			httpRequest.getHeaderNames().asIterator()
+				.forEachRemaining(headerName -> log.trace("[HEADER] {}: {}", headerName,
+					MASKED_HEADERS.contains(headerName.toLowerCase()) ? "****" : httpRequest.getHeader(headerName)));
+		}
+	}
 }
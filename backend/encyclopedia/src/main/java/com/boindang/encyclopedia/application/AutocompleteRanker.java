@@ -0,0 +1,101 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 인기도 가중 자동완성 순위
+ *
+ * - 후보(트라이, 자모 인덱스, ES prefix 결과)를 접두어 일치 품질과 인기도({@link IngredientPopularityScores})를 섞은 점수로 다시 정렬합니다.
+ *   score = (1 - w) * 일치 품질 + w * 인기도, w 는 검색어가 짧을수록 큼 (짧은 접두어일수록 후보가 많고 의도가 모호하므로)
+ * - 일치 품질: 전체 일치 1.0 > 이름 접두어 > 단어 접두어 > 그 외(오타 교정, 중간 일치), 같은 구간에서는 검색어가 이름을 많이 덮을수록 높음
+ * - 점수가 같으면 원래 순서(백엔드 relevance, 이름순)를 유지합니다.
+ * - 크기 limit 의 최소 힙으로 상위만 남기므로 후보 수와 무관하게 추가 정렬 비용이 작고, 네트워크 I/O 가 없습니다.
+ */
+@Component
+public class AutocompleteRanker {
+
+	private final IngredientPopularityScores popularityScores;
+	private final double maxPopularityWeight;
+
+	public AutocompleteRanker(IngredientPopularityScores popularityScores,
+		@Value("${encyclopedia.autocomplete.popularity-weight:0.6}") double maxPopularityWeight) {
+		this.popularityScores = popularityScores;
+		this.maxPopularityWeight = maxPopularityWeight;
+	}
+
+	/**
+	 * @param query 사용자가 입력한 검색어 (초성, 입력 중인 자모 포함 가능)
+	 * @param candidates 후보 목록 (원래 순서 = 동점 시 우선순위)
+	 * @param limit 반환할 최대 개수
+	 * @return 점수 내림차순 상위 limit 개
+	 */
+	public List<EncyclopediaSearchResponse> rank(String query, List<EncyclopediaSearchResponse> candidates, int limit) {
+		if (limit <= 0) return List.of();
+		if (candidates.size() <= 1) return candidates;
+
+		boolean choseong = HangulUtils.isChoseongOnly(query);
+		String queryKey = keyOf(query, choseong);
+		double popularityWeight = popularityWeight(queryKey.length());
+
+		PriorityQueue<Scored> heap = new PriorityQueue<>(limit + 1, Scored.WORST_FIRST);
+		for (int i = 0; i < candidates.size(); i++) {
+			EncyclopediaSearchResponse candidate = candidates.get(i);
+			double match = matchQuality(queryKey, candidate.getName(), choseong);
+			double score = (1 - popularityWeight) * match + popularityWeight * popularityScores.get(candidate.getId());
+			heap.offer(new Scored(candidate, score, i));
+			if (heap.size() > limit) {
+				heap.poll();
+			}
+		}
+
+		List<Scored> ranked = new ArrayList<>(heap);
+		ranked.sort(Scored.WORST_FIRST.reversed());
+		List<EncyclopediaSearchResponse> results = new ArrayList<>(ranked.size());
+		for (Scored scored : ranked) {
+			results.add(scored.response());
+		}
+		return results;
+	}
+
+	// 자모 1~2개: 최대 가중치, 이후 자모 하나마다 줄어들어 8개(한글 2~3글자) 이상이면 1/4
+	double popularityWeight(int queryKeyLength) {
+		double ratio = Math.max(0.25, 1.0 - Math.max(0, queryKeyLength - 2) / 8.0);
+		return maxPopularityWeight * ratio;
+	}
+
+	static double matchQuality(String queryKey, String name, boolean choseong) {
+		if (name == null || queryKey.isEmpty()) return 0.0;
+		String nameKey = keyOf(name, choseong);
+		if (nameKey.isEmpty()) return 0.0;
+
+		double coverage = Math.min(1.0, (double) queryKey.length() / nameKey.length());
+		if (nameKey.equals(queryKey)) return 1.0;
+		if (nameKey.startsWith(queryKey)) return 0.7 + 0.2 * coverage;
+
+		String[] words = name.trim().split("\\s+");
+		for (int i = 1; i < words.length; i++) {
+			if (keyOf(words[i], choseong).startsWith(queryKey)) return 0.5 + 0.2 * coverage;
+		}
+		return 0.3 * coverage;
+	}
+
+	private static String keyOf(String text, boolean choseong) {
+		return choseong ? HangulUtils.toChoseong(text) : HangulUtils.decompose(text);
+	}
+
+	private record Scored(EncyclopediaSearchResponse response, double score, int order) {
+
+		// 힙의 top: 점수가 가장 낮고, 같으면 원래 순서가 가장 뒤인 후보
+		static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+			.thenComparing(Comparator.comparingInt(Scored::order).reversed());
+	}
+}
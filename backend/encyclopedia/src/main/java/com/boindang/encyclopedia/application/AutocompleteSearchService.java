@@ -4,15 +4,20 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Service;
 
+import com.boindang.encyclopedia.application.mapper.SearchHitSummaryDecoder;
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -21,41 +26,139 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AutocompleteSearchService {
+public class AutocompleteSearchService implements IngredientSearchBackend {
+
+	public static final String BACKEND_NAME = "elasticsearch";
+
+	// 접두어가 일치하면 relevance 와 상관없이 후보에 넣을 인기 성분 수
+	private static final int POPULAR_CANDIDATE_LIMIT = PREFIX_CANDIDATE_LIMIT;
+	// BM25 점수보다 충분히 커서, 일치하는 인기 성분이 항상 relevance 순 후보보다 앞에 오게 하는 가산점
+	private static final float POPULAR_CANDIDATE_BOOST = 1000f;
 
 	private final RestHighLevelClient client;
+	private final FuzzySearchService fuzzySearchService;
+	private final EncyclopediaRepository encyclopediaRepository;
+	private final IngredientPopularityScores popularityScores;
+
+	@Override
+	public String name() {
+		return BACKEND_NAME;
+	}
+
+	@Override
+	public List<EncyclopediaSearchResponse> searchContaining(String query) {
+		try {
+			// name 필드에 query가 포함된 항목들 조회
+			return encyclopediaRepository.findByNameContaining(query)
+				.stream()
+				.map(EncyclopediaSearchResponse::from)
+				.toList();
+		} catch (Exception e) {
+			log.error("❌ Elasticsearch 포함 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		}
+	}
 
 	/**
 	 * Elasticsearch에서 edge_ngram 기반의 prefix 자동완성 검색을 수행
 	 *
 	 * - name 필드에 설정된 autocomplete analyzer를 기반으로 사용자가 입력한 query로 시작하는 성분명을 검색
 	 * - match_phrase_prefix 쿼리를 사용하여 접두어 일치 검색을 수행
-	 * - 최대 10개의 결과를 반환하며, 결과는 성분 이름 기준 정렬되지 않음
+	 * - 접두어가 일치하는 인기 상위 성분 + relevance 순 {@link #PREFIX_CANDIDATE_LIMIT}개를 후보로 반환하며, 최종 순위는 {@link AutocompleteRanker}가 정함
+	 *   (relevance 로만 자르면 인기 성분이 후보에서 빠져 인기도 가중이 적용되지 못함)
 	 *
 	 * @param query 사용자가 입력한 검색어
 	 * @return 검색어로 시작하는 성분들의 응답 리스트
 	 */
 	public List<EncyclopediaSearchResponse> searchAutocomplete(String query) {
 		try {
-			// 1. Elasticsearch 쿼리 구성 객체 생성
-			SearchSourceBuilder builder = new SearchSourceBuilder()
-				.query(QueryBuilders.matchPhrasePrefixQuery("name", query)) // match_phrase_prefix 쿼리로 자동완성 prefix 검색 설정 -> name 필드에서 query로 시작하는 단어를 찾음 (edge_ngram 기반)
-				.size(10); // 최대 10개까지
-
-			// 2. Elasticsearch에 검색 요청
-			SearchResponse response = client.search(
-				new SearchRequest("ingredients").source(builder),// 검색 요청 객체 생성 (index: "ingredients")
-				RequestOptions.DEFAULT
-			);
-
-			// 3. 검색 결과(hit들)를 리스트로 반환
-			return Arrays.stream(response.getHits().getHits())
-				.map(hit -> EncyclopediaSearchResponse.from2(hit.getSourceAsMap()))
-				.toList();
+			// 1. Elasticsearch에 검색 요청
+			SearchResponse response = client.search(buildRequest(query), RequestOptions.DEFAULT);
+
+			// 2. 검색 결과(hit들)를 리스트로 반환
+			return toResults(response);
 		} catch (Exception e) {
 			log.error("❌ Elasticsearch 자동완성 검색 실패 - query={}, message={}", query, e.getMessage(), e);
 			throw new ElasticSearchException("자동완성 검색 중 오류가 발생했습니다.");
 		}
 	}
-}
 
+	/**
+	 * prefix 자동완성과 fuzzy 검색을 한 번의 _msearch 요청으로 수행
+	 *
+	 * - prefix 결과가 없을 때 fuzzy 검색을 다시 요청하던 두 번의 왕복을 한 번으로 줄입니다.
+	 * - 어떤 검색이 결과를 냈는지는 응답을 받은 뒤 판단합니다. (prefix 우선)
+	 * - prefix 결과가 있으면 fuzzy 쪽 실패는 무시합니다.
+	 *
+	 * @param query 사용자가 입력한 검색어
+	 * @return prefix 결과 리스트와 fuzzy 최상위 결과
+	 */
+	@Override
+	public CombinedSearchResult searchWithFuzzyFallback(String query) {
+		MultiSearchRequest request = new MultiSearchRequest()
+			.add(buildRequest(query))
+			.add(fuzzySearchService.buildRequest(query));
+
+		MultiSearchResponse response;
+		try {
+			response = client.msearch(request, RequestOptions.DEFAULT);
+		} catch (Exception e) {
+			log.error("❌ Elasticsearch 통합 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("자동완성 검색 중 오류가 발생했습니다.");
+		}
+
+		MultiSearchResponse.Item prefixItem = response.getResponses()[0];
+		MultiSearchResponse.Item fuzzyItem = response.getResponses()[1];
+
+		if (prefixItem.isFailure()) {
+			log.error("❌ Elasticsearch 자동완성 검색 실패 - query={}, message={}", query, prefixItem.getFailureMessage());
+			throw new ElasticSearchException("자동완성 검색 중 오류가 발생했습니다.");
+		}
+
+		List<EncyclopediaSearchResponse> prefixResults = toResults(prefixItem.getResponse());
+		if (!prefixResults.isEmpty()) {
+			return new CombinedSearchResult(prefixResults, null);
+		}
+
+		if (fuzzyItem.isFailure()) {
+			log.error("❌ Fuzzy 검색 실패: query={}, error={}", query, fuzzyItem.getFailureMessage());
+			throw new ElasticSearchException("Fuzzy 검색 중 오류가 발생했습니다.");
+		}
+
+		return new CombinedSearchResult(Collections.emptyList(), fuzzySearchService.firstHit(fuzzyItem.getResponse()));
+	}
+
+	/**
+	 * prefix 자동완성 요청 생성
+	 *
+	 * - 인기 성분은 문서 _id 로 매칭합니다. (_source 의 id 필드는 인덱스에 따라 text 로 매핑되어
+	 *   "acesulfame-potassium" 같은 ID 가 토큰으로 쪼개지므로 terms 쿼리로는 매칭되지 않음)
+	 */
+	public SearchRequest buildRequest(String query) {
+		// match_phrase_prefix 쿼리로 자동완성 prefix 검색 설정 -> name 필드에서 query로 시작하는 단어를 찾음 (edge_ngram 기반)
+		QueryBuilder prefixQuery = QueryBuilders.matchPhrasePrefixQuery("name", query);
+
+		// 인기 상위 성분 중 접두어가 일치하는 것은 가산점으로 앞에 세우고, 그만큼 size 를 늘려 relevance 순 후보 수는 유지
+		List<String> popularIds = popularityScores.topIds(POPULAR_CANDIDATE_LIMIT);
+		if (!popularIds.isEmpty()) {
+			prefixQuery = QueryBuilders.boolQuery()
+				.must(prefixQuery)
+				.should(QueryBuilders.constantScoreQuery(QueryBuilders.idsQuery().addIds(popularIds.toArray(String[]::new)))
+					.boost(POPULAR_CANDIDATE_BOOST));
+		}
+
+		// Elasticsearch 쿼리 구성 객체 생성
+		SearchSourceBuilder builder = new SearchSourceBuilder()
+			.query(prefixQuery)
+			.size(PREFIX_CANDIDATE_LIMIT + popularIds.size()); // 인기도 순위 조정을 위해 후보를 넉넉히 가져옴
+		SearchHitSummaryDecoder.withSummaryFields(builder); // 요약 필드만 _source 로 받음
+
+		return new SearchRequest("ingredients").source(builder); // 검색 요청 객체 생성 (index: "ingredients")
+	}
+
+	private List<EncyclopediaSearchResponse> toResults(SearchResponse response) {
+		return Arrays.stream(response.getHits().getHits())
+			.map(SearchHitSummaryDecoder::decode)
+			.toList();
+	}
+}
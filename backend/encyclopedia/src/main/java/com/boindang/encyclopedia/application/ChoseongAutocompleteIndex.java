@@ -0,0 +1,93 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 초성 시퀀스 기반 자동완성 트라이
+ *
+ * - ingredients 인덱스의 모든 성분명을 초성 키("말티톨" → "ㅁㅌㅌ")로 변환해 트라이에 적재합니다.
+ * - 여러 단어로 된 성분명은 각 단어 시작 위치도 키로 등록합니다. (예: "ㄴㅌ" → 글루타민산 나트륨(MSG))
+ * - 각 노드에 그 초성 시퀀스로 시작하는 모든 성분의 응답 객체를 이름순으로 미리 담아 두므로 조회 시 네트워크 I/O가 없습니다.
+ *   (자동완성 후보이며, 최종 순위와 개수는 {@link AutocompleteRanker}가 인기도를 섞어 정합니다.
+ *   노드에서 이름순으로 잘라 두면 이름이 뒤쪽인 인기 성분이 짧은 초성 검색에서 후보에 들지 못하므로 자르지 않습니다.)
+ */
+@Component
+public class ChoseongAutocompleteIndex {
+
+	private volatile Node root = new Node();
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		rebuild(event.ingredients());
+	}
+
+	public void rebuild(List<IngredientDictionary> ingredients) {
+		Node newRoot = new Node();
+
+		List<IngredientDictionary> sorted = ingredients.stream()
+			.sorted(Comparator.comparing(IngredientDictionary::getName))
+			.toList();
+
+		for (IngredientDictionary ingredient : sorted) {
+			EncyclopediaSearchResponse summary = EncyclopediaSearchResponse.from(ingredient);
+			for (String key : keysOf(ingredient.getName())) {
+				insert(newRoot, key, summary);
+			}
+		}
+
+		this.root = newRoot; // 완성된 트라이로 원자적 교체
+	}
+
+	/**
+	 * 초성 시퀀스로 시작하는 성분 목록 조회
+	 *
+	 * @param choseong 초성 시퀀스 (예: "ㅁ", "ㅁㅌ")
+	 * @return 초성 시퀀스로 시작하는 모든 성분의 응답 리스트 (이름순)
+	 */
+	public List<EncyclopediaSearchResponse> search(String choseong) {
+		Node node = root;
+		for (int i = 0; i < choseong.length() && node != null; i++) {
+			node = node.children.get(choseong.charAt(i));
+		}
+		return node == null ? List.of() : Collections.unmodifiableList(node.results);
+	}
+
+	private static List<String> keysOf(String name) {
+		List<String> keys = new ArrayList<>();
+		String[] words = name.trim().split("\\s+");
+		for (int i = 0; i < words.length; i++) {
+			// i번째 단어부터 끝까지를 하나의 키로 사용
+			keys.add(HangulUtils.toChoseong(String.join("", List.of(words).subList(i, words.length))));
+		}
+		return keys;
+	}
+
+	private static void insert(Node root, String key, EncyclopediaSearchResponse summary) {
+		Node node = root;
+		for (int i = 0; i < key.length(); i++) {
+			node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+			// 한 성분의 키들은 연달아 삽입되므로 마지막 항목만 보면 중복을 거를 수 있음
+			if (node.results.isEmpty() || node.results.get(node.results.size() - 1) != summary) {
+				node.results.add(summary);
+			}
+		}
+	}
+
+	private static final class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private final List<EncyclopediaSearchResponse> results = new ArrayList<>(1);
+	}
+}
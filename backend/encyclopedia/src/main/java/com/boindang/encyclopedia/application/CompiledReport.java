@@ -0,0 +1,88 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.List;
+
+import com.boindang.encyclopedia.domain.ReportDocument;
+import com.boindang.encyclopedia.domain.UserType;
+
+import lombok.Getter;
+
+/**
+ * 리포트 생성용으로 미리 풀어 둔 reports 문서
+ *
+ * - 사용자 유형별 위험도/점수/메시지를 {@link UserType} 순서의 배열로 보관하므로, 요청마다 문자열 switch 없이 배열 조회만 합니다.
+ * - 사용자 유형을 알 수 없으면(null) 성분 기본 위험도와 기본 메시지를 사용합니다.
+ */
+@Getter
+public final class CompiledReport {
+
+	/** reports 인덱스에 없는 이름 (부정 캐싱용) */
+	static final CompiledReport MISSING = new CompiledReport(null, null, null, null, null, null);
+
+	private static final List<String> UNKNOWN_USER_TYPE_MESSAGE = List.of("정보 없음", "유저타입 정보가 없습니다.");
+
+	private final String name;
+	private final String shortMessage;
+	private final String keyword;
+
+	private final String[] riskLevels;
+	private final int[] scores;
+	private final List<String>[] messages;
+
+	private CompiledReport(String name, String shortMessage, String keyword,
+		String[] riskLevels, int[] scores, List<String>[] messages) {
+		this.name = name;
+		this.shortMessage = shortMessage;
+		this.keyword = keyword;
+		this.riskLevels = riskLevels;
+		this.scores = scores;
+		this.messages = messages;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static CompiledReport compile(ReportDocument doc) {
+		int size = UserType.values().length;
+		String[] riskLevels = new String[size];
+		int[] scores = new int[size];
+		List<String>[] messages = new List[size];
+
+		ReportDocument.RiskLevel risk = doc.getRiskLevel();
+		if (risk != null) {
+			riskLevels[UserType.DIABETIC.ordinal()] = risk.getDiabetic();
+			riskLevels[UserType.KIDNEY_PATIENT.ordinal()] = risk.getKidneyPatient();
+			riskLevels[UserType.DIETER.ordinal()] = risk.getDieter();
+			riskLevels[UserType.MUSCLE_BUILDER.ordinal()] = risk.getMuscleBuilder();
+		}
+
+		scores[UserType.DIABETIC.ordinal()] = doc.getDiabeticScore();
+		scores[UserType.KIDNEY_PATIENT.ordinal()] = doc.getKidneyPatientScore();
+		scores[UserType.DIETER.ordinal()] = doc.getDieterScore();
+		scores[UserType.MUSCLE_BUILDER.ordinal()] = doc.getMuscleBuilderScore();
+
+		messages[UserType.DIABETIC.ordinal()] = doc.getDiabetic();
+		messages[UserType.KIDNEY_PATIENT.ordinal()] = doc.getKidneyPatient();
+		messages[UserType.DIETER.ordinal()] = doc.getDieter();
+		messages[UserType.MUSCLE_BUILDER.ordinal()] = doc.getMuscleBuilder();
+
+		return new CompiledReport(doc.getName(), doc.getShortMessage(), doc.getKeyword(), riskLevels, scores, messages);
+	}
+
+	public String riskLevel(UserType userType, String ingredientRiskLevel) {
+		if (userType == null) {
+			return ingredientRiskLevel != null ? ingredientRiskLevel : "정보 없음";
+		}
+		return riskLevels[userType.ordinal()];
+	}
+
+	public int score(UserType userType) {
+		return userType != null ? scores[userType.ordinal()] : 0;
+	}
+
+	public List<String> messages(UserType userType) {
+		return userType != null ? messages[userType.ordinal()] : UNKNOWN_USER_TYPE_MESSAGE;
+	}
+
+	public static boolean isRisky(String riskLevel) {
+		return "주의".equals(riskLevel) || "높음".equals(riskLevel);
+	}
+}
@@ -0,0 +1,78 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.application.event.ReportIndexChangedEvent;
+import com.boindang.encyclopedia.domain.ReportDocument;
+import com.boindang.encyclopedia.infrastructure.ReportElasticsearchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 성분명 → {@link CompiledReport} 캐시
+ *
+ * - 캐시에 없는 이름만 모아 reports 인덱스를 한 번에 조회하고, 문서는 조회 시점에 한 번만 컴파일합니다.
+ * - reports 에 없는 이름도 부정 캐싱하므로 같은 세대 안에서는 다시 조회하지 않습니다.
+ * - 재색인(카탈로그 세대 변경)이나 reports 인덱스 변경({@link ReportIndexVersion}) 시 전체를 비웁니다.
+ */
+@Component
+public class CompiledReportCache {
+
+	private final ReportElasticsearchRepository reportRepository;
+	private final Cache<String, CompiledReport> cache;
+
+	public CompiledReportCache(ReportElasticsearchRepository reportRepository,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.cache.compiled-report.max-size:20000}") long maxSize) {
+		this.reportRepository = reportRepository;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "compiled-report");
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		cache.invalidateAll();
+	}
+
+	@EventListener
+	public void onReportIndexChanged(ReportIndexChangedEvent event) {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return 성분명 → 컴파일된 리포트 (reports 인덱스에 없는 이름은 포함하지 않음)
+	 */
+	public Map<String, CompiledReport> getAll(Collection<String> names) {
+		Map<String, CompiledReport> found = new HashMap<>();
+		cache.getAll(names, this::load).forEach((name, report) -> {
+			if (report != CompiledReport.MISSING) found.put(name, report);
+		});
+		return found;
+	}
+
+	private Map<String, CompiledReport> load(Set<? extends String> names) {
+		Map<String, CompiledReport> loaded = new HashMap<>();
+		for (ReportDocument doc : reportRepository.findByNameIn(new ArrayList<>(names))) {
+			loaded.putIfAbsent(doc.getName(), CompiledReport.compile(doc));
+		}
+		for (String name : names) {
+			loaded.putIfAbsent(name, CompiledReport.MISSING);
+		}
+		return loaded;
+	}
+}
@@ -1,6 +1,7 @@
 package com.boindang.encyclopedia.application;
 
 import com.boindang.encyclopedia.application.mapper.EncyclopediaMapper;
+import com.boindang.encyclopedia.application.mapper.SearchHitSummaryDecoder;
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
 import com.boindang.encyclopedia.common.exception.IngredientNotFoundException;
 import com.boindang.encyclopedia.common.exception.InvalidIngredientQueryException;
@@ -25,6 +26,7 @@ import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.elasticsearch.search.sort.SortOrder;
@@ -41,6 +43,7 @@ public class EncyclopediaService {
     private final RestHighLevelClient client;
     private final EncyclopediaRepository encyclopediaRepository;
     private final PopularIngredientService popularIngredientService;
+    private final IngredientDetailCache ingredientDetailCache;
     private RedisTemplate<String, String> redisTemplate;
 
     @Autowired
@@ -49,20 +52,33 @@ public class EncyclopediaService {
     private static final Set<String> VALID_TYPES = Set.of("감미료", "식품첨가물", "단백질", "당류", "탄수화물", "식이섬유", "지방", "비타민", "미네랄");
 
     public EncyclopediaDetailResponse getIngredientDetail(String id) {
-        return encyclopediaRepository.findById(id)
+        // ✅ 상세 문서는 재색인 때만 바뀌므로 L1(Caffeine) → L2(Redis) → ES 순으로 조회
+        return ingredientDetailCache.get(id, () -> encyclopediaRepository.findById(id)
             .map(EncyclopediaMapper::toDetailResponse)
             .orElseThrow(() -> {
                 log.warn("❗ 성분 조회 실패 - id={} : 해당 성분 없음", id);
                 return new IngredientNotFoundException("해당 성분을 찾을 수 없습니다.");
-            });
+            }));
     }
 
-    public IngredientListResponse getIngredientsByType(String category, String sort, String order, int size, int page) {
+    /**
+     * 카테고리별 성분 목록 조회
+     *
+     * - cursor 가 없으면 기존 방식(from/size 오프셋 페이징)으로 조회합니다.
+     * - cursor 가 주어지면(첫 페이지는 빈 문자열) search_after 기반으로 조회하고, 다음 페이지 토큰을 함께 반환합니다.
+     *   정렬 값 + 성분명(name.keyword, 유일) tiebreaker 를 토큰에 담으므로 깊은 페이지도 비용이 일정합니다.
+     * - trackTotal 이 false 면 전체 개수 집계를 생략하고 totalPages 를 -1 로 반환합니다. (기본: 오프셋 모드 true, 커서 모드 false)
+     */
+    public IngredientListResponse getIngredientsByType(String category, String sort, String order, int size, int page,
+                                                       String cursor, Boolean trackTotal) {
         if (!VALID_TYPES.contains(category)) {
             log.warn("❗ 잘못된 카테고리 요청 - category={}", category);
             throw new InvalidIngredientQueryException("존재하지 않는 카테고리입니다.");
         }
 
+        boolean cursorMode = cursor != null;
+        boolean countTotal = trackTotal != null ? trackTotal : !cursorMode;
+
         // 1. 필터 조건
         BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
             .filter(QueryBuilders.termQuery("category", category));
@@ -70,16 +86,33 @@ public class EncyclopediaService {
         // 2. 정렬 조건
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
             .query(boolQuery)
-            .from(page * size)  // ✅ 페이징 처리 시작 인덱스
-            .size(size);        // ✅ 한 페이지 크기
+            .size(size)         // ✅ 한 페이지 크기
+            .trackTotalHits(countTotal);
+        SearchHitSummaryDecoder.withSummaryFields(sourceBuilder); // ✅ 목록에 필요한 요약 필드만 _source 로 받음
 
+        String sortField = null;
         if (sort == null || sort.equals("name")) {
             // ✅ 기본 정렬: name.keyword 기준 오름차순 (가나다순)
             SortOrder sortOrder = "desc".equalsIgnoreCase(order) ? SortOrder.DESC : SortOrder.ASC;
             sourceBuilder.sort(new FieldSortBuilder("name.keyword").order(sortOrder));
+            sortField = "name.keyword";
         } else if (sort.equals("gi") || sort.equals("sweetness")) {
             SortOrder sortOrder = "asc".equalsIgnoreCase(order) ? SortOrder.ASC : SortOrder.DESC;
             sourceBuilder.sort(new FieldSortBuilder(sort).order(sortOrder));
+            sortField = sort;
+        }
+
+        if (cursorMode) {
+            // ✅ 정렬 값이 같은 문서 사이의 순서를 고정하기 위한 tiebreaker
+            //    (7.17 에서 _id 정렬은 deprecated 이고 doc values 가 없어 fielddata 를 힙에 올리므로, 유일한 name.keyword 를 사용)
+            if (!"name.keyword".equals(sortField)) {
+                sourceBuilder.sort(new FieldSortBuilder("name.keyword").order(SortOrder.ASC));
+            }
+            if (!cursor.isEmpty()) {
+                sourceBuilder.searchAfter(decodeCursor(cursor));
+            }
+        } else {
+            sourceBuilder.from(page * size);  // ✅ 페이징 처리 시작 인덱스
         }
 
         // 3. Elasticsearch 요청 생성
@@ -88,14 +121,22 @@ public class EncyclopediaService {
         try {
             SearchResponse response = client.search(request, RequestOptions.DEFAULT);
 
-            long totalHits = response.getHits().getTotalHits().value;
-            int totalPages = (int) Math.ceil((double) totalHits / size);
+            int totalPages = -1;
+            if (countTotal && response.getHits().getTotalHits() != null) {
+                long totalHits = response.getHits().getTotalHits().value;
+                totalPages = (int) Math.ceil((double) totalHits / size);
+            }
 
-            List<EncyclopediaSearchResponse> ingredients = Arrays.stream(response.getHits().getHits())
-                .map(hit -> EncyclopediaSearchResponse.from2(hit.getSourceAsMap()))
+            SearchHit[] hits = response.getHits().getHits();
+            List<EncyclopediaSearchResponse> ingredients = Arrays.stream(hits)
+                .map(SearchHitSummaryDecoder::decode)
                 .collect(Collectors.toList());
 
-            return new IngredientListResponse(totalPages, ingredients);
+            String nextCursor = (cursorMode && hits.length == size)
+                ? encodeCursor(hits[hits.length - 1].getSortValues())
+                : null;
+
+            return new IngredientListResponse(totalPages, ingredients, nextCursor);
 
         } catch (IOException e) {
             log.error("❌ Elasticsearch 성분 목록 조회 실패 - category={}, message={}", category, e.getMessage(), e);
@@ -103,6 +144,23 @@ public class EncyclopediaService {
         }
     }
 
+    private String encodeCursor(Object[] sortValues) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(sortValues));
+        } catch (IOException e) {
+            throw new ElasticSearchException("다음 페이지 커서를 만드는 중 오류가 발생했습니다.");
+        }
+    }
+
+    private Object[] decodeCursor(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), Object[].class);
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("❗ 잘못된 커서 요청 - cursor={}", cursor);
+            throw new InvalidIngredientQueryException("유효하지 않은 커서입니다.");
+        }
+    }
+
     public EncyclopediaSearchResponse searchFuzzy(String query) {
         try {
             SearchSourceBuilder builder = new SearchSourceBuilder()
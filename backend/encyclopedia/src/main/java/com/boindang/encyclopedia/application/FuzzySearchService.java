@@ -12,6 +12,7 @@ import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import com.boindang.encyclopedia.application.mapper.SearchHitSummaryDecoder;
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 
@@ -37,30 +38,39 @@ public class FuzzySearchService {
 	 */
 	public EncyclopediaSearchResponse searchFuzzy(String query) {
 		try {
-			// 1. 검색 조건 구성 (matchQuery + fuzzy)
-			SearchSourceBuilder builder = new SearchSourceBuilder()
-				.query(QueryBuilders.matchQuery("name", query)
-					.fuzziness(Fuzziness.TWO) // 최대 2글자 오타 허용
-					.prefixLength(0) // 처음 글자부터 오타 허용
-					.maxExpansions(50) // 최대 후보군 수
-					.fuzzyTranspositions(true)) // 철자 전환 허용 (ex. ab -> ba)
-				.size(1); // 가장 유사한 결과 1개만
+			// 1. Elasticsearch 검색 요청 실행
+			SearchResponse response = client.search(buildRequest(query), RequestOptions.DEFAULT);
 
-			// 2. Elasticsearch 검색 요청 실행
-			SearchResponse response = client.search(
-				new SearchRequest("ingredients").source(builder),
-				RequestOptions.DEFAULT
-			);
-
-			// 3. 검색 결과 중 가장 유사한 결과 1개만 가져옴
-			return Arrays.stream(response.getHits().getHits())
-				.findFirst() // 결과 1개만
-				.map(hit -> EncyclopediaSearchResponse.from2(hit.getSourceAsMap()))
-				.orElse(null); // 없으면 null 반환
+			// 2. 검색 결과 중 가장 유사한 결과 1개만 가져옴
+			return firstHit(response);
 
 		} catch (Exception e) {
 			log.error("❌ Fuzzy 검색 실패: query={}, error={}", query, e.getMessage(), e);
 			throw new ElasticSearchException("Fuzzy 검색 중 오류가 발생했습니다.");
 		}
 	}
+
+	/**
+	 * 오타 대응 검색 요청 생성 (multi-search 요청에서도 재사용)
+	 */
+	SearchRequest buildRequest(String query) {
+		// 검색 조건 구성 (matchQuery + fuzzy)
+		SearchSourceBuilder builder = new SearchSourceBuilder()
+			.query(QueryBuilders.matchQuery("name", query)
+				.fuzziness(Fuzziness.TWO) // 최대 2글자 오타 허용
+				.prefixLength(0) // 처음 글자부터 오타 허용
+				.maxExpansions(50) // 최대 후보군 수
+				.fuzzyTranspositions(true)) // 철자 전환 허용 (ex. ab -> ba)
+			.size(1); // 가장 유사한 결과 1개만
+		SearchHitSummaryDecoder.withSummaryFields(builder); // 요약 필드만 _source 로 받음
+
+		return new SearchRequest("ingredients").source(builder);
+	}
+
+	EncyclopediaSearchResponse firstHit(SearchResponse response) {
+		return Arrays.stream(response.getHits().getHits())
+			.findFirst() // 결과 1개만
+			.map(SearchHitSummaryDecoder::decode)
+			.orElse(null); // 없으면 null 반환
+	}
 }
@@ -0,0 +1,335 @@
+package com.boindang.encyclopedia.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원재료 표기 → 성분 ID 별칭 사전
+ *
+ * - 시드: 성분명, 영문명, 괄호 앞/안 표기("글루타민산 나트륨(MSG)" → "글루타민산나트륨", "msg"),
+ *   큐레이션 목록(resources/ingredient-aliases.tsv)
+ * - 학습: ES 로 변환한 결과 중 신뢰할 수 있는 것만({@link IngredientNameResolver} 에서 판단) 별칭으로 추가하고
+ *   Redis 해시({@link #LEARNED_KEY})에 "성분ID|만료시각(epoch ms)" 으로 보관해 재기동 후에도 유지합니다.
+ * - 학습한 별칭은 {@code encyclopedia.alias.learned-ttl} 이 지나면 더 이상 쓰지 않으며, 다음 카탈로그 갱신 때 Redis 에서도 지웁니다.
+ *   만료 후에도 같은 입력이 다시 신뢰할 수 있는 결과로 변환되면 새로 학습합니다.
+ * - 잘못 학습한 별칭은 관리 엔드포인트(/actuator/aliases)에서 확인하고 지울 수 있습니다.
+ * - 조회는 불변 해시맵 스냅샷에서만 하며, 학습 시에는 새 스냅샷으로 교체합니다. (학습은 드물고 조회가 대부분)
+ * - 조회 결과는 encyclopedia.alias.lookup{result=hit|miss} 메트릭으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class IngredientAliasDictionary {
+
+	public static final String LEARNED_KEY = "encyclopedia:aliases:learned";
+	private static final String CURATED_RESOURCE = "ingredient-aliases.tsv";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final int maxLearned;
+	private final long learnedTtlMillis;
+	private final Map<String, String> curated;
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	public IngredientAliasDictionary(RedisTemplate<String, String> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.alias.max-learned:10000}") int maxLearned,
+		@Value("${encyclopedia.alias.learned-ttl:30d}") Duration learnedTtl) {
+		this.redisTemplate = redisTemplate;
+		this.maxLearned = maxLearned;
+		this.learnedTtlMillis = learnedTtl.toMillis();
+		this.curated = loadCurated();
+		this.hitCounter = Counter.builder("encyclopedia.alias.lookup")
+			.description("원재료 별칭 사전 조회 수")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("encyclopedia.alias.lookup")
+			.description("원재료 별칭 사전 조회 수")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		Gauge.builder("encyclopedia.alias.size", this, dictionary -> dictionary.snapshot.seeded().size())
+			.tag("source", "seeded")
+			.register(meterRegistry);
+		Gauge.builder("encyclopedia.alias.size", this, dictionary -> dictionary.snapshot.learned().size())
+			.tag("source", "learned")
+			.register(meterRegistry);
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		rebuild(event.ingredients(), loadLearned());
+		log.info("✅ 원재료 별칭 사전 갱신 완료 - generation={}, seeded={}, learned={}",
+			event.generation(), snapshot.seeded().size(), snapshot.learned().size());
+	}
+
+	/**
+	 * 별칭 스냅샷 재구성
+	 *
+	 * @param learned 이전에 학습한 (정규화된 별칭 → 성분 ID, 만료 시각), 카탈로그에 없는 ID 와 만료된 별칭은 버립니다.
+	 */
+	public void rebuild(List<IngredientDictionary> ingredients, Map<String, LearnedAlias> learned) {
+		Set<String> ids = new HashSet<>();
+		Map<String, String> seeded = new HashMap<>();
+
+		// 1. 성분명/영문명 그대로
+		for (IngredientDictionary ingredient : ingredients) {
+			if (ingredient.getId() == null) continue;
+			ids.add(ingredient.getId());
+			putAlias(seeded, ingredient.getName(), ingredient.getId());
+			putAlias(seeded, ingredient.getEngName(), ingredient.getId());
+		}
+		// 2. 큐레이션 목록
+		curated.forEach((alias, id) -> {
+			if (ids.contains(id)) seeded.putIfAbsent(alias, id);
+		});
+		// 3. 괄호 앞/안 표기 (이미 등록된 별칭보다 우선하지 않음)
+		for (IngredientDictionary ingredient : ingredients) {
+			if (ingredient.getId() == null) continue;
+			for (String variant : variants(ingredient.getName())) seeded.putIfAbsent(variant, ingredient.getId());
+			for (String variant : variants(ingredient.getEngName())) seeded.putIfAbsent(variant, ingredient.getId());
+		}
+
+		long now = System.currentTimeMillis();
+		Map<String, LearnedAlias> kept = new HashMap<>();
+		learned.forEach((alias, entry) -> {
+			if (ids.contains(entry.id()) && !entry.isExpired(now) && !seeded.containsKey(alias)) kept.put(alias, entry);
+		});
+
+		this.snapshot = new Snapshot(Map.copyOf(seeded), Map.copyOf(kept));
+	}
+
+	/**
+	 * 원재료명으로 성분 ID 조회
+	 *
+	 * - 전체 표기 → 괄호를 뺀 표기 → 괄호 안 표기 순으로 찾습니다. (예: "유당(우유)" → "유당")
+	 *
+	 * @param rawName 제품 라벨의 원재료명 (공백·대소문자 무시)
+	 */
+	public Optional<String> findId(String rawName) {
+		String key = IngredientNameDictionary.normalize(rawName);
+		if (key.isEmpty()) return Optional.empty();
+
+		Snapshot current = snapshot;
+		String id = current.get(key);
+		if (id == null && key.indexOf('(') >= 0) {
+			for (String variant : variants(key)) {
+				id = current.get(variant);
+				if (id != null) break;
+			}
+		}
+
+		(id != null ? hitCounter : missCounter).increment();
+		return Optional.ofNullable(id);
+	}
+
+	/**
+	 * ES 로 변환한 결과를 별칭으로 학습
+	 *
+	 * - 호출 측에서 신뢰할 수 있는 변환인지 먼저 확인해야 합니다. (학습한 별칭은 만료 전까지 ES 보다 우선)
+	 *
+	 * @param rawName 사용자가 입력한 원재료명
+	 * @param id 변환된 성분의 ID
+	 */
+	public void learn(String rawName, String id) {
+		String key = IngredientNameDictionary.normalize(rawName);
+		if (key.isEmpty() || id == null) return;
+
+		long now = System.currentTimeMillis();
+		LearnedAlias entry = new LearnedAlias(id, now + learnedTtlMillis);
+		synchronized (this) {
+			Snapshot current = snapshot;
+			if (current.get(key) != null) return;
+
+			Map<String, LearnedAlias> learned = new HashMap<>(current.learned());
+			learned.values().removeIf(alias -> alias.isExpired(now));
+			if (learned.size() >= maxLearned) return;
+			learned.put(key, entry);
+			this.snapshot = new Snapshot(current.seeded(), Map.copyOf(learned));
+		}
+
+		try {
+			redisTemplate.opsForHash().put(LEARNED_KEY, key, entry.encode());
+		} catch (Exception e) {
+			// 메모리에는 반영됐으므로 재기동 전까지는 계속 사용
+			log.warn("❗ 학습한 별칭 저장 실패 - alias={}, message={}", key, e.getMessage());
+		}
+	}
+
+	/**
+	 * @return 만료되지 않은 학습 별칭 (정규화된 별칭 → 성분 ID, 만료 시각), 별칭순
+	 */
+	public Map<String, LearnedAlias> learnedAliases() {
+		long now = System.currentTimeMillis();
+		Map<String, LearnedAlias> learned = new TreeMap<>();
+		snapshot.learned().forEach((alias, entry) -> {
+			if (!entry.isExpired(now)) learned.put(alias, entry);
+		});
+		return learned;
+	}
+
+	/**
+	 * 잘못 학습한 별칭 삭제
+	 *
+	 * - 시드 별칭(성분명, 큐레이션 목록)은 지우지 않습니다.
+	 *
+	 * @param rawName 삭제할 별칭 (공백·대소문자 무시)
+	 * @return 학습한 별칭이 있어 지웠으면 true
+	 */
+	public boolean forget(String rawName) {
+		String key = IngredientNameDictionary.normalize(rawName);
+		if (key.isEmpty()) return false;
+
+		boolean removed;
+		synchronized (this) {
+			Snapshot current = snapshot;
+			removed = current.learned().containsKey(key);
+			if (removed) {
+				Map<String, LearnedAlias> learned = new HashMap<>(current.learned());
+				learned.remove(key);
+				this.snapshot = new Snapshot(current.seeded(), Map.copyOf(learned));
+			}
+		}
+
+		// 다른 인스턴스가 학습해 Redis 에만 있는 별칭도 지움
+		try {
+			removed |= redisTemplate.opsForHash().delete(LEARNED_KEY, key) > 0;
+		} catch (Exception e) {
+			// 메모리에서는 지웠으므로 다음 카탈로그 갱신 전까지는 이 인스턴스에서 쓰지 않음
+			log.warn("❗ 학습한 별칭 삭제 실패 - alias={}, message={}", key, e.getMessage());
+		}
+		log.info("✅ 학습한 별칭 삭제 - alias={}, removed={}", key, removed);
+		return removed;
+	}
+
+	private Map<String, LearnedAlias> loadLearned() {
+		try {
+			long now = System.currentTimeMillis();
+			Map<String, LearnedAlias> learned = new HashMap<>();
+			List<Object> stale = new ArrayList<>();
+			redisTemplate.<String, String>opsForHash().entries(LEARNED_KEY).forEach((alias, value) -> {
+				LearnedAlias entry = LearnedAlias.decode(value);
+				if (entry == null || entry.isExpired(now)) {
+					stale.add(alias); // 만료 시각이 없는 값은 신뢰도 검사 없이 학습하던 때의 별칭이므로 함께 지움
+				} else {
+					learned.put(alias, entry);
+				}
+			});
+			if (!stale.isEmpty()) {
+				redisTemplate.opsForHash().delete(LEARNED_KEY, stale.toArray());
+				log.info("✅ 만료된 학습 별칭 정리 - count={}", stale.size());
+			}
+			return learned;
+		} catch (Exception e) {
+			log.warn("❗ 학습한 별칭 조회 실패, 시드 별칭만 사용 - message={}", e.getMessage());
+			return Map.of();
+		}
+	}
+
+	private static void putAlias(Map<String, String> aliases, String alias, String id) {
+		String key = IngredientNameDictionary.normalize(alias);
+		if (!key.isEmpty()) aliases.putIfAbsent(key, id);
+	}
+
+	// "글루타민산 나트륨(MSG)" → ["글루타민산나트륨", "msg"], "Allulose (D-Allulose, Psicose)" → ["allulose", "d-allulose", "psicose"]
+	static List<String> variants(String value) {
+		String key = IngredientNameDictionary.normalize(value);
+		int open = key.indexOf('(');
+		int close = key.lastIndexOf(')');
+		if (open < 0 || close < open) return List.of();
+
+		List<String> variants = new ArrayList<>();
+		String outer = key.substring(0, open) + key.substring(close + 1);
+		if (!outer.isEmpty()) variants.add(outer);
+		for (String inner : key.substring(open + 1, close).split("[,/]")) {
+			if (!inner.isEmpty()) variants.add(inner);
+		}
+		return variants;
+	}
+
+	private static Map<String, String> loadCurated() {
+		Map<String, String> curated = new LinkedHashMap<>();
+		ClassPathResource resource = new ClassPathResource(CURATED_RESOURCE);
+		if (!resource.exists()) return curated;
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) continue;
+				String[] cols = line.split("\t");
+				if (cols.length == 2) {
+					putAlias(curated, cols[0], cols[1].trim());
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("별칭 목록을 읽을 수 없습니다: " + CURATED_RESOURCE, e);
+		}
+		return curated;
+	}
+
+	/**
+	 * 학습한 별칭 하나
+	 *
+	 * @param id        성분 ID
+	 * @param expiresAt 만료 시각 (epoch ms)
+	 */
+	public record LearnedAlias(String id, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return expiresAt <= now;
+		}
+
+		String encode() {
+			return id + "|" + expiresAt;
+		}
+
+		// 형식이 맞지 않으면 null
+		static LearnedAlias decode(String value) {
+			int separator = value == null ? -1 : value.lastIndexOf('|');
+			if (separator <= 0) return null;
+			try {
+				return new LearnedAlias(value.substring(0, separator), Long.parseLong(value.substring(separator + 1)));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+	}
+
+	private record Snapshot(Map<String, String> seeded, Map<String, LearnedAlias> learned) {
+		static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+		String get(String key) {
+			String id = seeded.get(key);
+			if (id != null) return id;
+			LearnedAlias entry = learned.get(key);
+			return entry != null && !entry.isExpired(System.currentTimeMillis()) ? entry.id() : null;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ingredients 인덱스 전체 스냅샷을 관리하는 컴포넌트
+ *
+ * - 기동 시, 그리고 인덱스 세대(generation)가 바뀌었을 때 전체 문서를 한 번 읽어
+ *   {@link IngredientCatalogRefreshedEvent}를 발행합니다.
+ * - 세대 번호는 Redis에 저장되어 모든 인스턴스가 공유하며, 주기적으로 비교해 재적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientCatalog {
+
+	private static final String GENERATION_KEY = "ingredients:generation";
+
+	private final EncyclopediaRepository encyclopediaRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private volatile long generation = -1;
+	private volatile List<IngredientDictionary> ingredients = List.of();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		refresh(readSharedGeneration());
+	}
+
+	// 다른 인스턴스에서 재색인한 경우를 감지
+	@Scheduled(fixedDelayString = "${encyclopedia.catalog.sync-interval-ms:30000}", initialDelay = 30000)
+	public void syncGeneration() {
+		long shared = readSharedGeneration();
+		if (shared != generation) {
+			refresh(shared);
+		}
+	}
+
+	/**
+	 * 재색인 완료 후 호출: 공유 세대 번호를 올리고 즉시 재적재
+	 *
+	 * @return 새 세대 번호
+	 */
+	public long advanceGeneration() {
+		Long next = redisTemplate.opsForValue().increment(GENERATION_KEY);
+		long nextGeneration = next != null ? next : generation + 1;
+		refresh(nextGeneration);
+		return nextGeneration;
+	}
+
+	public long getGeneration() {
+		return generation;
+	}
+
+	public List<IngredientDictionary> getIngredients() {
+		return ingredients;
+	}
+
+	private synchronized void refresh(long nextGeneration) {
+		List<IngredientDictionary> loaded;
+		try {
+			loaded = StreamSupport.stream(encyclopediaRepository.findAll().spliterator(), false)
+				.filter(i -> i.getName() != null)
+				.toList();
+		} catch (Exception e) {
+			// 세대를 갱신하지 않으므로 다음 동기화 주기에 다시 시도
+			log.error("❌ 성분 카탈로그 적재 실패 - generation={}, message={}", nextGeneration, e.getMessage(), e);
+			return;
+		}
+
+		this.ingredients = loaded;
+		this.generation = nextGeneration;
+		log.info("✅ 성분 카탈로그 적재 완료 - generation={}, size={}", nextGeneration, loaded.size());
+		eventPublisher.publishEvent(new IngredientCatalogRefreshedEvent(nextGeneration, loaded));
+	}
+
+	private long readSharedGeneration() {
+		try {
+			String value = redisTemplate.opsForValue().get(GENERATION_KEY);
+			return value != null ? Long.parseLong(value) : 0L;
+		} catch (Exception e) {
+			log.warn("❗ 인덱스 세대 조회 실패, 현재 세대 유지 - message={}", e.getMessage());
+			return Math.max(generation, 0L);
+		}
+	}
+}
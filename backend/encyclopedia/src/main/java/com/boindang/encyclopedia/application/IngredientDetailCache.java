@@ -0,0 +1,92 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.cache.TwoTierCache;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaDetailResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 성분 상세 조회 결과 캐시
+ *
+ * - 상세 문서(compareTable, references, 유저 타입별 설명 등)는 재색인 때만 바뀌므로 매핑된 응답 객체를 캐싱합니다.
+ * - L1(Caffeine)은 대략적인 문자 수 기준 가중치로 크기를 제한하고, L2(Redis)는 직렬화된 바이트를 저장합니다.
+ * - 키에 인덱스 세대가 포함되어 재색인 시 전체가 한 번에 무효화됩니다.
+ */
+@Component
+public class IngredientDetailCache {
+
+	private final TwoTierCache<EncyclopediaDetailResponse> cache;
+
+	public IngredientDetailCache(RedisTemplate<String, byte[]> binaryRedisTemplate,
+		ObjectMapper objectMapper,
+		IngredientCatalog ingredientCatalog,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.cache.detail.max-weight:8000000}") long maxWeight,
+		@Value("${encyclopedia.cache.detail.remote-ttl:24h}") Duration remoteTtl) {
+		this.cache = new TwoTierCache<>(
+			"ingredient-detail",
+			Caffeine.newBuilder()
+				.maximumWeight(maxWeight)
+				.weigher((String key, EncyclopediaDetailResponse value) -> weigh(value))
+				.recordStats()
+				.build(),
+			binaryRedisTemplate,
+			objectMapper,
+			objectMapper.constructType(EncyclopediaDetailResponse.class),
+			remoteTtl,
+			ingredientCatalog::getGeneration,
+			meterRegistry);
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		cache.invalidateLocal();
+	}
+
+	public EncyclopediaDetailResponse get(String id, Supplier<EncyclopediaDetailResponse> loader) {
+		return cache.get(id, loader);
+	}
+
+	// 문자열 필드 길이 합으로 메모리 사용량을 근사
+	private static int weigh(EncyclopediaDetailResponse detail) {
+		long weight = 64
+			+ length(detail.getName()) + length(detail.getEngName()) + length(detail.getDescription())
+			+ length(detail.getBloodResponse()) + length(detail.getDigestEffect()) + length(detail.getToothEffect())
+			+ length(detail.getRecommendedDailyIntake()) + length(detail.getRegulatory()) + length(detail.getIssue())
+			+ length(detail.getExamples()) + length(detail.getReferences()) + length(detail.getPros())
+			+ length(detail.getCons()) + length(detail.getDiabetic()) + length(detail.getKidneyPatient())
+			+ length(detail.getDieter()) + length(detail.getMuscleBuilder()) + length(detail.getLabels());
+
+		if (detail.getCompareTable() != null && detail.getCompareTable().getRows() != null) {
+			for (EncyclopediaDetailResponse.CompareTable.Row row : detail.getCompareTable().getRows()) {
+				weight += length(row.getName()) + length(row.getValues());
+			}
+		}
+		return (int) Math.min(weight, Integer.MAX_VALUE);
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	private static long length(List<String> values) {
+		if (values == null) return 0;
+		long sum = 0;
+		for (String value : values) {
+			sum += length(value);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,218 @@
+package com.boindang.encyclopedia.application;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.boindang.encyclopedia.presentation.dto.response.IngredientDeltaResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트 오프라인 검색용 전체 성분 사전 스냅샷
+ *
+ * - 카탈로그 갱신 이벤트마다 전체 성분 요약(id, name, engName, type, riskLevel)을 NDJSON 으로 만들고 gzip 으로 미리 압축해 둡니다.
+ *   요청마다 직렬화/압축하지 않고 같은 바이트 배열을 그대로 내려줍니다.
+ * - 버전은 인덱스 세대(generation)이고, ETag 는 세대 + 내용 CRC32 입니다. (같은 세대를 다시 적재해도 내용이 같으면 ETag 유지)
+ * - 세대가 바뀔 때마다 이전 세대와의 차이(추가/변경, 삭제)를 최근 {@code encyclopedia.export.delta-history}개까지 보관해
+ *   클라이언트가 가진 버전 이후의 변경분만 내려줄 수 있습니다.
+ * - 변경 이력은 인스턴스 메모리에만 있으므로, 기동 이전 세대나 모르는 세대는 전체 재다운로드가 필요하다고 응답합니다.
+ */
+@Slf4j
+@Component
+public class IngredientExportSnapshot {
+
+	private final ObjectMapper objectMapper;
+	private final int deltaHistory;
+
+	private volatile State state = State.EMPTY;
+
+	public IngredientExportSnapshot(ObjectMapper objectMapper,
+		@Value("${encyclopedia.export.delta-history:20}") int deltaHistory) {
+		this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		this.deltaHistory = deltaHistory;
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		try {
+			rebuild(event.generation(), event.ingredients());
+			Export current = state.export();
+			log.info("✅ 성분 사전 export 스냅샷 갱신 완료 - generation={}, size={}, gzipBytes={}",
+				current.generation(), current.size(), current.gzipped().length);
+		} catch (RuntimeException e) {
+			// 이전 스냅샷을 그대로 제공
+			log.error("❌ 성분 사전 export 스냅샷 갱신 실패 - generation={}, message={}", event.generation(), e.getMessage(), e);
+		}
+	}
+
+	public synchronized void rebuild(long generation, List<IngredientDictionary> ingredients) {
+		Map<String, Document> documents = new LinkedHashMap<>();
+		ingredients.stream()
+			.map(EncyclopediaSearchResponse::from)
+			.filter(summary -> summary.getId() != null && summary.getName() != null)
+			.sorted(Comparator.comparing(EncyclopediaSearchResponse::getName).thenComparing(EncyclopediaSearchResponse::getId))
+			.forEach(summary -> documents.put(summary.getId(), new Document(summary, toLine(summary))));
+
+		State previous = state;
+		List<Change> history = new ArrayList<>();
+		// 세대가 앞으로 갈 때만 이력을 이어감 (같은 세대 재적재나 세대 역행이면 이전 버전 기준 delta 를 믿을 수 없음)
+		if (previous.generation() >= 0 && generation > previous.generation()) {
+			history.addAll(previous.history());
+			history.add(diff(previous, generation, documents));
+			if (history.size() > deltaHistory) {
+				history = new ArrayList<>(history.subList(history.size() - deltaHistory, history.size()));
+			}
+		}
+
+		Export export = new Export(generation, documents.size(), gzip(documents.values()), etag(generation, documents.values()));
+		this.state = new State(generation, Map.copyOf(documents), List.copyOf(history), export);
+	}
+
+	/**
+	 * @return 현재 스냅샷 (세대가 음수면 아직 적재 전)
+	 */
+	public Export current() {
+		return state.export();
+	}
+
+	/**
+	 * 클라이언트 버전 이후의 변경분
+	 *
+	 * - since 가 현재 세대면 빈 변경분을 반환합니다.
+	 * - since 가 보관 중인 이력에 없는 세대면 fullReloadRequired=true 로 응답합니다.
+	 *
+	 * @param since 클라이언트가 가진 사전 버전(세대)
+	 */
+	public IngredientDeltaResponse delta(long since) {
+		State current = state;
+		if (since == current.generation()) {
+			return new IngredientDeltaResponse(since, current.generation(), false, List.of(), List.of());
+		}
+
+		int start = -1;
+		for (int i = 0; i < current.history().size(); i++) {
+			if (current.history().get(i).fromGeneration() == since) {
+				start = i;
+				break;
+			}
+		}
+		if (start < 0) {
+			return new IngredientDeltaResponse(since, current.generation(), true, List.of(), List.of());
+		}
+
+		// 오래된 변경부터 차례로 덮어써, 중간에 바뀌었다 삭제된 문서는 삭제로만 남김
+		Map<String, EncyclopediaSearchResponse> upserts = new LinkedHashMap<>();
+		Set<String> deletedIds = new HashSet<>();
+		for (Change change : current.history().subList(start, current.history().size())) {
+			change.upserts().forEach((id, summary) -> {
+				upserts.put(id, summary);
+				deletedIds.remove(id);
+			});
+			change.deletedIds().forEach(id -> {
+				upserts.remove(id);
+				deletedIds.add(id);
+			});
+		}
+		return new IngredientDeltaResponse(since, current.generation(), false,
+			List.copyOf(upserts.values()), deletedIds.stream().sorted().toList());
+	}
+
+	private static Change diff(State previous, long generation, Map<String, Document> documents) {
+		Map<String, EncyclopediaSearchResponse> upserts = new LinkedHashMap<>();
+		for (Document document : documents.values()) {
+			Document before = previous.documents().get(document.summary().getId());
+			if (before == null || !before.line().equals(document.line())) {
+				upserts.put(document.summary().getId(), document.summary());
+			}
+		}
+		Set<String> deletedIds = new HashSet<>(previous.documents().keySet());
+		deletedIds.removeAll(documents.keySet());
+		return new Change(previous.generation(), generation, upserts, Set.copyOf(deletedIds));
+	}
+
+	private String toLine(EncyclopediaSearchResponse summary) {
+		try {
+			return objectMapper.writeValueAsString(summary);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("성분 요약 직렬화 실패 - id=" + summary.getId(), e);
+		}
+	}
+
+	private static byte[] gzip(Iterable<Document> documents) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+			for (Document document : documents) {
+				gzip.write(document.line().getBytes(StandardCharsets.UTF_8));
+				gzip.write('\n');
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	private static String etag(long generation, Iterable<Document> documents) {
+		CRC32 crc = new CRC32();
+		for (Document document : documents) {
+			crc.update(document.line().getBytes(StandardCharsets.UTF_8));
+			crc.update('\n');
+		}
+		return "\"" + generation + "-" + Long.toHexString(crc.getValue()) + "\"";
+	}
+
+	private record Document(EncyclopediaSearchResponse summary, String line) {
+	}
+
+	// fromGeneration → toGeneration 사이의 변경분
+	private record Change(long fromGeneration, long toGeneration,
+		Map<String, EncyclopediaSearchResponse> upserts, Set<String> deletedIds) {
+	}
+
+	private record State(long generation, Map<String, Document> documents, List<Change> history, Export export) {
+
+		static final State EMPTY = new State(-1, Map.of(), List.of(), new Export(-1, 0, new byte[0], "\"-1\""));
+	}
+
+	/**
+	 * 한 세대의 export 결과
+	 *
+	 * @param generation 사전 버전 (인덱스 세대, 음수면 아직 적재 전)
+	 * @param size       성분 수
+	 * @param gzipped    gzip 으로 압축한 NDJSON (한 줄에 성분 하나, 이름순) - 응답마다 그대로 쓰므로 수정하지 않음
+	 * @param etag       HTTP ETag 값 (따옴표 포함)
+	 */
+	public record Export(long generation, int size, byte[] gzipped, String etag) {
+
+		public boolean isReady() {
+			return generation >= 0;
+		}
+
+		public boolean matches(String ifNoneMatch) {
+			return ifNoneMatch != null && isReady()
+				&& (ifNoneMatch.equals("*") || List.of(ifNoneMatch.split("\\s*,\\s*")).stream()
+					.anyMatch(tag -> Objects.equals(tag.startsWith("W/") ? tag.substring(2) : tag, etag)));
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.util.BloomFilter;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+/**
+ * 성분명 → ID 인메모리 사전
+ *
+ * - 정규화한 국문명/영문명 → ID, ID → 국문명 매핑을 불변 스냅샷으로 보관합니다.
+ * - 조회 전 블룸 필터로 사전에 없는 입력을 빠르게 걸러내므로, 대부분의 미스는 해시맵 조회까지 가지 않습니다.
+ * - 카탈로그 적재(기동 시, 재색인 시) 이벤트를 받으면 새 스냅샷을 만들어 한 번에 교체합니다.
+ *   다른 리스너가 같은 이벤트에서 이 사전을 사용할 수 있도록 가장 먼저 실행됩니다.
+ */
+@Component
+public class IngredientNameDictionary {
+
+	private static final double BLOOM_FPP = 0.01;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		rebuild(event.ingredients());
+	}
+
+	public void rebuild(List<IngredientDictionary> ingredients) {
+		Map<String, String> nameToId = new HashMap<>();
+		Map<String, String> engNameToId = new HashMap<>();
+		Map<String, String> idToName = new HashMap<>();
+		BloomFilter bloom = new BloomFilter(ingredients.size() * 2, BLOOM_FPP);
+
+		for (IngredientDictionary ingredient : ingredients) {
+			if (ingredient.getId() == null || ingredient.getName() == null) continue;
+
+			idToName.put(ingredient.getId(), ingredient.getName());
+			String name = normalize(ingredient.getName());
+			if (!name.isEmpty() && nameToId.putIfAbsent(name, ingredient.getId()) == null) {
+				bloom.put(name);
+			}
+			String engName = normalize(ingredient.getEngName());
+			if (!engName.isEmpty() && engNameToId.putIfAbsent(engName, ingredient.getId()) == null) {
+				bloom.put(engName);
+			}
+		}
+
+		this.snapshot = new Snapshot(bloom, Map.copyOf(nameToId), Map.copyOf(engNameToId), Map.copyOf(idToName));
+	}
+
+	/**
+	 * 성분명(국문 또는 영문)으로 ID 조회
+	 *
+	 * @param name 사용자가 입력한 성분명 (공백·대소문자 무시)
+	 * @return 정확히 일치하는 성분 ID, 없으면 empty
+	 */
+	public Optional<String> findId(String name) {
+		String key = normalize(name);
+		Snapshot current = snapshot;
+		if (key.isEmpty() || !current.bloom().mightContain(key)) {
+			return Optional.empty();
+		}
+		String id = current.nameToId().get(key);
+		return Optional.ofNullable(id != null ? id : current.engNameToId().get(key));
+	}
+
+	public Optional<String> findName(String id) {
+		return id == null ? Optional.empty() : Optional.ofNullable(snapshot.idToName().get(id));
+	}
+
+	// 입력값에 해당하는 국문 성분명 (사전에 없으면 empty)
+	public Optional<String> findCanonicalName(String name) {
+		return findId(name).flatMap(this::findName);
+	}
+
+	public boolean contains(String name) {
+		return findId(name).isPresent();
+	}
+
+	public int size() {
+		return snapshot.idToName().size();
+	}
+
+	// 공백 제거 + 소문자 변환
+	static String normalize(String value) {
+		if (value == null) return "";
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!Character.isWhitespace(c)) sb.append(c);
+		}
+		return sb.toString().toLowerCase(Locale.ROOT);
+	}
+
+	private record Snapshot(BloomFilter bloom, Map<String, String> nameToId, Map<String, String> engNameToId,
+							Map<String, String> idToName) {
+		static final Snapshot EMPTY = new Snapshot(new BloomFilter(1, BLOOM_FPP), Map.of(), Map.of(), Map.of());
+	}
+}
@@ -0,0 +1,220 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.Fuzziness;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.application.event.ReportIndexChangedEvent;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.common.util.JamoEditDistance;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 제품 원재료명 → 실제 성분명 일괄 변환기
+ *
+ * - 성분 사전에 정확히 있는 이름, 별칭 사전({@link IngredientAliasDictionary})에 있는 표기는 네트워크 조회 없이 바로 변환합니다.
+ * - 중복을 제거한 뒤, 캐시에 없는 이름들만 한 번의 _msearch 요청으로 reports 인덱스에서 찾습니다.
+ * - 변환 결과는 크기 제한이 있는 로컬 캐시에 보관하며, 재색인 시 비웁니다.
+ * - ES 로 사전의 성분을 찾았고 그 결과를 신뢰할 수 있을 때만 별칭으로도 학습합니다. (학습한 별칭은 만료 전까지 ES 보다 우선하므로)
+ *   - 입력과 성분명이 자모 기준 오타 한 번 이내로 같거나
+ *   - 최고 점수가 {@code encyclopedia.alias.learn-min-score} 이상이고, 다른 성분의 점수보다 {@code encyclopedia.alias.learn-min-margin} 배 이상 높을 때
+ * - 배치별 소요 시간과 크기를 메트릭(encyclopedia.report.name.resolve)으로 기록합니다.
+ * - ES 오류로 입력값을 그대로 쓴 이름이 있으면 결과에 degraded 로 표시해, 호출 측이 그 결과를 캐싱하지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class IngredientNameResolver {
+
+	private static final String REPORT_INDEX = "reports";
+	// 자모 하나를 잘못 친 정도까지만 같은 이름으로 봄
+	private static final int LEARN_MAX_DISTANCE = JamoEditDistance.SUBSTITUTION_COST;
+
+	private final RestHighLevelClient client;
+	private final IngredientNameDictionary ingredientNameDictionary;
+	private final IngredientAliasDictionary ingredientAliasDictionary;
+	private final Cache<String, String> resolvedNames = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofHours(6))
+		.build();
+	private final Timer batchTimer;
+	private final DistributionSummary batchSize;
+	private final float learnMinScore;
+	private final float learnMinMargin;
+
+	public IngredientNameResolver(RestHighLevelClient client, IngredientNameDictionary ingredientNameDictionary,
+		IngredientAliasDictionary ingredientAliasDictionary, MeterRegistry meterRegistry,
+		@Value("${encyclopedia.alias.learn-min-score:15.0}") float learnMinScore,
+		@Value("${encyclopedia.alias.learn-min-margin:2.0}") float learnMinMargin) {
+		this.client = client;
+		this.ingredientNameDictionary = ingredientNameDictionary;
+		this.ingredientAliasDictionary = ingredientAliasDictionary;
+		this.learnMinScore = learnMinScore;
+		this.learnMinMargin = learnMinMargin;
+		this.batchTimer = Timer.builder("encyclopedia.report.name.resolve")
+			.description("원재료명 일괄 변환(_msearch) 소요 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder("encyclopedia.report.name.resolve.batch")
+			.description("_msearch 한 번에 보낸 원재료명 수")
+			.register(meterRegistry);
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		resolvedNames.invalidateAll();
+	}
+
+	@EventListener
+	public void onReportIndexChanged(ReportIndexChangedEvent event) {
+		resolvedNames.invalidateAll();
+	}
+
+	/**
+	 * 원재료명 목록을 실제 성분명으로 변환
+	 *
+	 * @param queries 사용자가 입력한 원재료명 목록
+	 * @return 입력 순서를 유지한 (입력값 → 변환된 성분명) 맵(찾지 못하면 입력값 그대로)과 오류로 변환하지 못한 이름이 있는지 여부
+	 */
+	public Resolution resolve(List<String> queries) {
+		Set<String> distinct = new LinkedHashSet<>();
+		for (String query : queries) {
+			if (query != null) distinct.add(query);
+		}
+
+		Map<String, String> found = new LinkedHashMap<>(resolvedNames.getAllPresent(distinct));
+		for (String query : distinct) {
+			if (found.containsKey(query)) continue;
+			ingredientNameDictionary.findCanonicalName(query)
+				.or(() -> ingredientAliasDictionary.findId(query).flatMap(ingredientNameDictionary::findName))
+				.ifPresent(name -> found.put(query, name));
+		}
+		List<String> misses = distinct.stream()
+			.filter(query -> !found.containsKey(query))
+			.toList();
+
+		boolean degraded = false;
+		if (!misses.isEmpty()) {
+			Map<String, String> searched = searchBatch(misses);
+			found.putAll(searched);
+			degraded = searched.size() < misses.size();  // 실패한 이름은 결과에서 빠짐
+		}
+
+		Map<String, String> resolvedMap = new LinkedHashMap<>(); // 순서 유지
+		for (String query : distinct) {
+			resolvedMap.put(query, found.getOrDefault(query, query));
+		}
+		return new Resolution(resolvedMap, degraded);
+	}
+
+	/**
+	 * @param names    입력값 → 변환된 성분명 (입력 순서 유지)
+	 * @param degraded ES 오류로 입력값을 그대로 사용한 이름이 있으면 true
+	 */
+	public record Resolution(Map<String, String> names, boolean degraded) {
+	}
+
+	// 오류 없이 조회된 이름만 반환 (검색 결과가 없는 이름은 입력값 그대로 포함)
+	private Map<String, String> searchBatch(List<String> queries) {
+		MultiSearchRequest request = new MultiSearchRequest();
+		queries.forEach(query -> request.add(buildRequest(query)));
+
+		long start = System.nanoTime();
+		MultiSearchResponse response;
+		try {
+			response = client.msearch(request, RequestOptions.DEFAULT);
+		} catch (Exception e) {
+			// 변환 실패 시 입력값을 그대로 사용 (캐시하지 않음)
+			log.error("❌ 원재료명 일괄 변환 실패 - size={}, message={}", queries.size(), e.getMessage(), e);
+			return Map.of();
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			batchTimer.record(Duration.ofNanos(elapsed));
+			batchSize.record(queries.size());
+			log.debug("원재료명 일괄 변환 - size={}, elapsed={}ms", queries.size(), elapsed / 1_000_000);
+		}
+
+		Map<String, String> resolved = new LinkedHashMap<>();
+		MultiSearchResponse.Item[] items = response.getResponses();
+		for (int i = 0; i < items.length; i++) {
+			String query = queries.get(i);
+			if (items[i].isFailure()) {
+				log.warn("❗ 원재료명 변환 실패 - query={}, message={}", query, items[i].getFailureMessage());
+				continue;
+			}
+
+			String bestMatch = null;
+			float topScore = -1f;
+			for (SearchHit hit : items[i].getResponse().getHits()) {
+				Object name = hit.getSourceAsMap().get("name");
+				if (name != null && hit.getScore() > topScore) {
+					bestMatch = name.toString();
+					topScore = hit.getScore();
+				}
+			}
+
+			String value = bestMatch != null ? bestMatch : query;
+			resolved.put(query, value);
+			resolvedNames.put(query, value);
+			if (bestMatch != null && isConfident(query, bestMatch, topScore, items[i].getResponse().getHits().getHits())) {
+				ingredientNameDictionary.findId(bestMatch).ifPresent(id -> ingredientAliasDictionary.learn(query, id));
+			}
+		}
+		return resolved;
+	}
+
+	// 별칭으로 학습해도 될 만큼 확실한 변환인지
+	private boolean isConfident(String query, String bestMatch, float topScore, SearchHit[] hits) {
+		String typed = HangulUtils.decompose(IngredientNameDictionary.normalize(query));
+		String matched = HangulUtils.decompose(IngredientNameDictionary.normalize(bestMatch));
+		if (JamoEditDistance.distance(typed, matched, LEARN_MAX_DISTANCE) <= LEARN_MAX_DISTANCE) {
+			return true;
+		}
+		if (topScore < learnMinScore) {
+			return false;
+		}
+
+		// 같은 성분명의 다른 리포트 문서는 경쟁 후보로 보지 않음
+		float runnerUp = 0f;
+		for (SearchHit hit : hits) {
+			Object name = hit.getSourceAsMap().get("name");
+			if (name != null && !bestMatch.equals(name.toString())) {
+				runnerUp = Math.max(runnerUp, hit.getScore());
+			}
+		}
+		return topScore >= runnerUp * learnMinMargin;
+	}
+
+	private SearchRequest buildRequest(String query) {
+		SearchSourceBuilder builder = new SearchSourceBuilder()
+			.query(QueryBuilders.boolQuery()
+				.should(QueryBuilders.matchQuery("name", query).fuzziness(Fuzziness.AUTO).boost(2.0f))
+				.should(QueryBuilders.prefixQuery("name", query).boost(1.0f))
+			)
+			.size(5);
+
+		return new SearchRequest(REPORT_INDEX).source(builder);
+	}
+}
@@ -0,0 +1,95 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동완성 순위용 성분 인기도 스냅샷
+ *
+ * - 시간 감쇠 랭킹 ZSET({@link TrendingIngredientRanking#TRENDING_KEY})을 주기적으로 통째로 읽어 메모리에 보관합니다.
+ *   아직 집계 전이면 일간 ZSET({@link PopularIngredientCounter#POPULAR_INGREDIENT_KEY})을 사용합니다.
+ * - 점수는 log(1 + score) / log(1 + 최고 점수)로 0~1 범위에 맞춰, 소수의 인기 성분이 순위를 독점하지 않게 합니다.
+ * - 조회는 키 입력마다 호출되므로 네트워크 I/O 없이 스냅샷만 읽습니다.
+ * - 인기도 상위 성분 ID 목록도 함께 보관해, 검색 백엔드가 자동완성 후보를 고를 때 인기 성분을 빠뜨리지 않게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientPopularityScores {
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	private volatile Map<String, Double> scores = Map.of();
+	private volatile List<String> rankedIds = List.of();
+
+	@Scheduled(fixedDelayString = "${encyclopedia.popularity.refresh-interval-ms:60000}")
+	public void refresh() {
+		try {
+			ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+			Set<ZSetOperations.TypedTuple<String>> tuples = zSet.rangeWithScores(TrendingIngredientRanking.TRENDING_KEY, 0, -1);
+			if (tuples == null || tuples.isEmpty()) {
+				tuples = zSet.rangeWithScores(PopularIngredientCounter.POPULAR_INGREDIENT_KEY, 0, -1);
+			}
+			update(tuples);
+		} catch (Exception e) {
+			// 이전 스냅샷을 그대로 유지
+			log.warn("❗ 성분 인기도 갱신 실패 - message={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * @return 0~1 범위의 인기도 (집계되지 않은 성분은 0)
+	 */
+	public double get(String ingredientId) {
+		return ingredientId == null ? 0.0 : scores.getOrDefault(ingredientId, 0.0);
+	}
+
+	/**
+	 * @return 인기도 내림차순 상위 limit 개의 성분 ID (집계 전이면 빈 리스트)
+	 */
+	public List<String> topIds(int limit) {
+		List<String> ids = rankedIds;
+		return ids.size() <= limit ? ids : ids.subList(0, limit);
+	}
+
+	/**
+	 * ZSET 점수로 스냅샷 교체
+	 */
+	public void update(Set<ZSetOperations.TypedTuple<String>> tuples) {
+		Map<String, Double> normalized = normalize(tuples);
+		this.rankedIds = normalized.entrySet().stream()
+			.sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+			.map(Map.Entry::getKey)
+			.toList();
+		this.scores = normalized;
+	}
+
+	static Map<String, Double> normalize(Set<ZSetOperations.TypedTuple<String>> tuples) {
+		if (tuples == null || tuples.isEmpty()) return Map.of();
+
+		double max = 0.0;
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			if (tuple.getScore() != null) max = Math.max(max, tuple.getScore());
+		}
+		if (max <= 0.0) return Map.of();
+
+		double denominator = Math.log1p(max);
+		Map<String, Double> normalized = new HashMap<>(tuples.size() * 2);
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			if (tuple.getValue() == null || tuple.getScore() == null || tuple.getScore() <= 0.0) continue;
+			normalized.put(tuple.getValue(), Math.log1p(tuple.getScore()) / denominator);
+		}
+		return Map.copyOf(normalized);
+	}
+}
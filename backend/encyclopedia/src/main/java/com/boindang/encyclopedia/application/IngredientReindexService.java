@@ -0,0 +1,410 @@
+package com.boindang.encyclopedia.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.GetAliasesResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.client.indices.GetIndexResponse;
+import org.elasticsearch.cluster.metadata.MappingMetadata;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import com.boindang.encyclopedia.common.exception.ElasticSearchException;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.ReindexJobResponse;
+import com.boindang.encyclopedia.presentation.dto.response.ReindexResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * encyclopedia_json(MySQL) → ingredients(Elasticsearch) 무중단 재색인
+ *
+ * 1. encyclopedia_json 을 forward-only 스트리밍 커서로 한 행씩 읽습니다. (전체를 메모리에 올리지 않음)
+ * 2. JSON 컬럼을 {@link IngredientDictionary}로 변환하고, Spring Data 매핑 규칙 그대로 문서를 만듭니다.
+ * 3. 버전이 붙은 새 인덱스(ingredients_v{yyyyMMddHHmmss})에 BulkProcessor로 동시 적재합니다.
+ *    동시 요청 수를 넘으면 add 가 대기(backpressure)하고, 429 등 거절 시 지수 백오프로 재시도합니다.
+ * 4. 적재가 끝나면 ingredients 별칭을 한 번의 요청으로 새 인덱스로 옮기고, 카탈로그 세대를 올려 로컬 캐시를 갱신합니다.
+ *
+ * - 관리 포트의 actuator 엔드포인트({@code ReindexEndpoint})에서만 시작하며, 전용 스레드에서 비동기로 실행됩니다.
+ * - 한 번에 하나의 작업만 실행하고, 마지막 작업의 상태를 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class IngredientReindexService {
+
+	public static final String ALIAS = "ingredients";
+	private static final String SELECT_SQL = "SELECT id, name, data FROM encyclopedia_json";
+	private static final String INDEX_TEMPLATE = "elasticsearch/ingredients-index.json";
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final RestHighLevelClient client;
+	private final JdbcTemplate streamingJdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final ElasticsearchConverter elasticsearchConverter;
+	private final IngredientCatalog ingredientCatalog;
+	private final int bulkActions;
+	private final int concurrentRequests;
+
+	private final Counter indexedCounter;
+	private final Counter failedCounter;
+	private final Timer bulkTimer;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+	private final AtomicReference<ReindexJobResponse> lastJob = new AtomicReference<>();
+	private final Executor reindexExecutor;
+
+	public IngredientReindexService(RestHighLevelClient client,
+		DataSource dataSource,
+		ObjectMapper objectMapper,
+		ElasticsearchConverter elasticsearchConverter,
+		IngredientCatalog ingredientCatalog,
+		MeterRegistry meterRegistry,
+		@Qualifier("reindexExecutor") Executor reindexExecutor,
+		@Value("${encyclopedia.reindex.bulk-actions:500}") int bulkActions,
+		@Value("${encyclopedia.reindex.concurrent-requests:2}") int concurrentRequests) {
+		this.client = client;
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.objectMapper = objectMapper;
+		this.elasticsearchConverter = elasticsearchConverter;
+		this.ingredientCatalog = ingredientCatalog;
+		this.bulkActions = bulkActions;
+		this.concurrentRequests = concurrentRequests;
+		this.reindexExecutor = reindexExecutor;
+
+		this.indexedCounter = Counter.builder("encyclopedia.reindex.documents")
+			.tag("result", "indexed")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("encyclopedia.reindex.documents")
+			.tag("result", "failed")
+			.register(meterRegistry);
+		this.bulkTimer = Timer.builder("encyclopedia.reindex.bulk")
+			.description("재색인 bulk 요청 소요 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 재색인 작업을 전용 스레드에서 시작
+	 *
+	 * @return 시작한 작업 (RUNNING), 이미 진행 중인 작업이 있으면 empty
+	 */
+	public Optional<ReindexJobResponse> start() {
+		if (!running.compareAndSet(false, true)) {
+			return Optional.empty();
+		}
+
+		ReindexJobResponse job = ReindexJobResponse.running(UUID.randomUUID().toString());
+		lastJob.set(job);
+		try {
+			reindexExecutor.execute(() -> run(job));
+		} catch (RejectedExecutionException e) {
+			lastJob.set(job.failed("재색인 작업을 시작하지 못했습니다."));
+			running.set(false);
+			throw new ElasticSearchException("재색인 작업을 시작하지 못했습니다.");
+		}
+		return Optional.of(job);
+	}
+
+	/**
+	 * @return 마지막(또는 진행 중인) 재색인 작업 상태, 기동 후 실행한 적이 없으면 empty
+	 */
+	public Optional<ReindexJobResponse> lastJob() {
+		return Optional.ofNullable(lastJob.get());
+	}
+
+	private void run(ReindexJobResponse job) {
+		try {
+			lastJob.set(job.succeeded(doReindex()));
+		} catch (Exception e) {
+			log.error("❌ 재색인 작업 실패 - jobId={}, message={}", job.jobId(), e.getMessage(), e);
+			lastJob.set(job.failed(e.getMessage()));
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private ReindexResponse doReindex() {
+		String newIndex = ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+		long start = System.nanoTime();
+
+		try {
+			createIndex(newIndex);
+		} catch (IOException e) {
+			log.error("❌ 재색인 인덱스 생성 실패 - index={}, message={}", newIndex, e.getMessage(), e);
+			throw new ElasticSearchException("재색인 중 오류가 발생했습니다.");
+		}
+
+		// 별칭 교체 전에 실패하면(MySQL 커서 오류, bulk 실패, refresh/별칭 교체 오류 등) 만들던 인덱스를 지워 고아 인덱스를 남기지 않음
+		BulkResult result;
+		Set<String> previous;
+		try {
+			result = load(newIndex);
+			if (result.failed() > 0 || result.indexed() == 0) {
+				throw new ElasticSearchException("재색인 실패로 별칭을 교체하지 않았습니다. (성공 " + result.indexed()
+					+ "건, 실패 " + result.failed() + "건)");
+			}
+
+			finishIndex(newIndex);
+			previous = swapAlias(newIndex);
+		} catch (Exception e) {
+			deleteIndexQuietly(newIndex);
+			if (e instanceof ElasticSearchException elasticSearchException) {
+				throw elasticSearchException;
+			}
+			log.error("❌ 재색인 중 오류 - index={}, message={}", newIndex, e.getMessage(), e);
+			throw new ElasticSearchException("재색인 중 오류가 발생했습니다.");
+		}
+
+		long generation = ingredientCatalog.advanceGeneration(); // 로컬 캐시·인덱스 갱신 이벤트 발행
+
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+		log.info("✅ 재색인 완료 - index={}, previous={}, documents={}, elapsed={}ms, throughput={}/s",
+			newIndex, previous, result.indexed(), elapsedMs, result.indexed() * 1000 / Math.max(elapsedMs, 1));
+		return new ReindexResponse(newIndex, result.indexed(), elapsedMs, generation);
+	}
+
+	// 별칭이 이미 이 인덱스를 가리키면(별칭 교체 응답만 실패한 경우) 운영 인덱스이므로 지우지 않음
+	private void deleteIndexQuietly(String index) {
+		try {
+			if (client.indices().existsAlias(new GetAliasesRequest(ALIAS).indices(index), RequestOptions.DEFAULT)) {
+				log.warn("❗ 별칭이 이미 교체되어 재색인 인덱스를 유지합니다. - index={}", index);
+				return;
+			}
+			client.indices().delete(new DeleteIndexRequest(index), RequestOptions.DEFAULT);
+			log.info("✅ 실패한 재색인 인덱스 삭제 - index={}", index);
+		} catch (Exception e) {
+			// 원래 오류를 그대로 전달하고, 삭제하지 못한 인덱스는 로그로 남김
+			log.error("❌ 실패한 재색인 인덱스 삭제 실패 - index={}, message={}", index, e.getMessage(), e);
+		}
+	}
+
+	// 현재 운영 인덱스의 설정/매핑을 그대로 복제하고(없으면 기본 템플릿), 적재 중에는 refresh 를 끔
+	private void createIndex(String index) throws IOException {
+		CreateIndexRequest request = new CreateIndexRequest(index);
+		GetIndexRequest current = new GetIndexRequest(ALIAS);
+
+		if (client.indices().exists(current, RequestOptions.DEFAULT)) {
+			GetIndexResponse response = client.indices().get(current, RequestOptions.DEFAULT);
+			String source = response.getIndices()[0];
+			request.settings(response.getSettings().get(source).filter(key -> key.startsWith("index.analysis.")
+				|| key.equals("index.number_of_shards")
+				|| key.equals("index.number_of_replicas")
+				|| key.equals("index.max_ngram_diff")));
+			MappingMetadata mapping = response.getMappings().get(source);
+			if (mapping != null) {
+				request.mapping(mapping.sourceAsMap());
+			}
+		} else {
+			try (InputStream in = new ClassPathResource(INDEX_TEMPLATE).getInputStream()) {
+				request.source(new String(in.readAllBytes(), StandardCharsets.UTF_8), XContentType.JSON);
+			}
+		}
+
+		client.indices().create(request, RequestOptions.DEFAULT);
+		updateRefreshInterval(index, "-1");
+	}
+
+	private BulkResult load(String index) {
+		AtomicLong indexed = new AtomicLong();
+		AtomicLong failed = new AtomicLong();
+		BulkProcessor processor = BulkProcessor.builder(
+				(request, listener) -> client.bulkAsync(request, RequestOptions.DEFAULT, listener),
+				new MetricsListener(indexed, failed),
+				"ingredients-reindex")
+			.setBulkActions(bulkActions)
+			.setBulkSize(new ByteSizeValue(5, ByteSizeUnit.MB))
+			.setConcurrentRequests(concurrentRequests)
+			.setBackoffPolicy(BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(200), 5))
+			.build();
+
+		try {
+			streamingJdbcTemplate.query(connection -> {
+				PreparedStatement statement = connection.prepareStatement(SELECT_SQL,
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				statement.setFetchSize(Integer.MIN_VALUE); // MySQL 드라이버 행 단위 스트리밍
+				return statement;
+			}, (RowCallbackHandler) rs -> {
+				IndexRequest request = toIndexRequest(index, rs.getString("id"), rs.getString("name"), rs.getString("data"));
+				if (request != null) {
+					processor.add(request);
+				} else {
+					failed.incrementAndGet();
+					failedCounter.increment();
+				}
+			});
+		} finally {
+			try {
+				if (!processor.awaitClose(5, TimeUnit.MINUTES)) {
+					log.warn("❗ 재색인 bulk 요청이 제한 시간 안에 끝나지 않았습니다 - index={}", index);
+					failed.incrementAndGet();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failed.incrementAndGet();
+			}
+		}
+		return new BulkResult(indexed.get(), failed.get());
+	}
+
+	private IndexRequest toIndexRequest(String index, String id, String name, String data) {
+		try {
+			ObjectNode node = (ObjectNode) objectMapper.readTree(data);
+			node.put("id", id);
+			if (!node.hasNonNull("name")) {
+				node.put("name", name);
+			}
+			IngredientDictionary ingredient = objectMapper.treeToValue(node, IngredientDictionary.class);
+
+			// Spring Data 매핑 규칙(enum 은 이름으로 저장 등)과 동일한 문서로 변환
+			String source = elasticsearchConverter.mapObject(ingredient).toJson();
+			return new IndexRequest(index).id(id).source(source, XContentType.JSON);
+		} catch (Exception e) {
+			log.warn("❗ 재색인 대상 행 변환 실패 - id={}, message={}", id, e.getMessage());
+			return null;
+		}
+	}
+
+	private void finishIndex(String index) throws IOException {
+		updateRefreshInterval(index, null); // 기본값으로 복구
+		client.indices().refresh(new RefreshRequest(index), RequestOptions.DEFAULT);
+	}
+
+	private void updateRefreshInterval(String index, String interval) throws IOException {
+		Settings.Builder settings = interval != null
+			? Settings.builder().put("index.refresh_interval", interval)
+			: Settings.builder().putNull("index.refresh_interval");
+		client.indices().putSettings(new UpdateSettingsRequest(index).settings(settings), RequestOptions.DEFAULT);
+	}
+
+	/**
+	 * 별칭을 새 인덱스로 원자적으로 교체
+	 *
+	 * - 처음 실행 시 ingredients 가 별칭이 아닌 실제 인덱스라면, 같은 요청 안에서 그 인덱스를 지우고 별칭을 만듭니다.
+	 * - 이전 버전 인덱스는 교체 후 삭제합니다.
+	 *
+	 * @return 교체 전 별칭이 가리키던 인덱스 목록
+	 */
+	private Set<String> swapAlias(String newIndex) throws IOException {
+		IndicesAliasesRequest request = new IndicesAliasesRequest();
+		request.addAliasAction(IndicesAliasesRequest.AliasActions.add().index(newIndex).alias(ALIAS));
+
+		GetAliasesResponse aliases = client.indices().getAlias(new GetAliasesRequest(ALIAS), RequestOptions.DEFAULT);
+		Set<String> previous = aliases.getAliases().keySet();
+		if (previous.isEmpty() && client.indices().exists(new GetIndexRequest(ALIAS), RequestOptions.DEFAULT)) {
+			request.addAliasAction(IndicesAliasesRequest.AliasActions.removeIndex().index(ALIAS));
+			previous = Set.of();
+		}
+		for (String index : previous) {
+			request.addAliasAction(IndicesAliasesRequest.AliasActions.remove().index(index).alias(ALIAS));
+		}
+		client.indices().updateAliases(request, RequestOptions.DEFAULT);
+
+		for (String index : previous) {
+			try {
+				client.indices().delete(new DeleteIndexRequest(index), RequestOptions.DEFAULT);
+			} catch (Exception e) {
+				log.warn("❗ 이전 인덱스 삭제 실패 - index={}, message={}", index, e.getMessage());
+			}
+		}
+		return previous;
+	}
+
+	private record BulkResult(long indexed, long failed) {
+	}
+
+	private class MetricsListener implements BulkProcessor.Listener {
+
+		private final AtomicLong indexed;
+		private final AtomicLong failed;
+		private final Map<Long, Long> startedAt = new ConcurrentHashMap<>();
+
+		MetricsListener(AtomicLong indexed, AtomicLong failed) {
+			this.indexed = indexed;
+			this.failed = failed;
+		}
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request) {
+			startedAt.put(executionId, System.nanoTime());
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+			record(executionId);
+			long itemFailures = response.hasFailures()
+				? Arrays.stream(response.getItems()).filter(BulkItemResponse::isFailed).count()
+				: 0;
+			long succeeded = request.numberOfActions() - itemFailures;
+			indexed.addAndGet(succeeded);
+			failed.addAndGet(itemFailures);
+			indexedCounter.increment(succeeded);
+			failedCounter.increment(itemFailures);
+			if (itemFailures > 0) {
+				log.warn("❗ 재색인 bulk 일부 실패 - failed={}, message={}", itemFailures, response.buildFailureMessage());
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+			record(executionId);
+			failed.addAndGet(request.numberOfActions());
+			failedCounter.increment(request.numberOfActions());
+			log.error("❌ 재색인 bulk 요청 실패 - actions={}, message={}", request.numberOfActions(), failure.getMessage());
+		}
+
+		private void record(long executionId) {
+			Long started = startedAt.remove(executionId);
+			if (started != null) {
+				bulkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.List;
+
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 성분 검색 백엔드 (Elasticsearch, 내장 Lucene 등)
+ *
+ * - {@link SearchBackendRouter}가 상태에 따라 어느 백엔드로 보낼지 결정합니다.
+ */
+public interface IngredientSearchBackend {
+
+	// prefix 자동완성 후보 수 (최종 순위와 개수는 AutocompleteRanker 가 결정)
+	int PREFIX_CANDIDATE_LIMIT = 30;
+
+	// 라우팅·메트릭에 사용하는 백엔드 이름
+	String name();
+
+	// 검색 가능 여부 (인덱스가 아직 없으면 false)
+	default boolean isReady() {
+		return true;
+	}
+
+	/**
+	 * 성분명에 검색어가 포함된 항목 조회 (suggested=false)
+	 */
+	List<EncyclopediaSearchResponse> searchContaining(String query);
+
+	/**
+	 * prefix 자동완성 + 오타 대응 검색
+	 *
+	 * @return prefix 결과가 있으면 prefix 결과, 없으면 fuzzy 최상위 결과
+	 */
+	CombinedSearchResult searchWithFuzzyFallback(String query);
+
+	/**
+	 * @param prefixResults prefix 자동완성 결과 (없으면 빈 리스트)
+	 * @param fuzzyResult   prefix 결과가 없을 때의 fuzzy 최상위 결과 (없으면 null)
+	 */
+	record CombinedSearchResult(List<EncyclopediaSearchResponse> prefixResults,
+								EncyclopediaSearchResponse fuzzyResult) {
+	}
+}
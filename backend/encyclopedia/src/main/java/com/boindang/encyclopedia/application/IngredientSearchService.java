@@ -3,11 +3,12 @@ package com.boindang.encyclopedia.application;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
 import com.boindang.encyclopedia.common.exception.ElasticSearchException;
-import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+import com.boindang.encyclopedia.common.util.HangulUtils;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -18,65 +19,118 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class IngredientSearchService {
 
-	private final EncyclopediaRepository encyclopediaRepository;
 	private final AutocompleteCacheService cacheService;
-	private final AutocompleteSearchService autocompleteSearchService;
-	private final FuzzySearchService fuzzySearchService;
+	private final SearchBackendRouter searchBackendRouter;
+	private final JamoPrefixIndex jamoPrefixIndex;
+	private final JamoFuzzyIndex jamoFuzzyIndex;
+	private final SearchResultCache searchResultCache;
+	private final SearchMetrics searchMetrics;
+	private final AutocompleteRanker autocompleteRanker;
+
+	private static final int AUTOCOMPLETE_LIMIT = 10;
 
 	public Map<String, Object> search(String query, boolean flag) {
+		String normalized = SearchResultCache.normalize(query);
+		// ✅ 인메모리 단계(초성, 자모)에서 끝나는 검색은 캐시를 거치지 않음
+		SearchResultCache.SearchResult found = flag ? searchInMemory(normalized) : null;
+		if (found == null) {
+			// ✅ 정규화한 검색어 + flag 기준으로 결과 캐싱 (동일 검색어 동시 요청은 한 번만 계산)
+			found = searchResultCache.get(normalized, flag, () -> searchBackend(normalized, flag));
+		}
+
 		Map<String, Object> result = new LinkedHashMap<>();
 		result.put("originalQuery", query); // 사용자가 입력한 검색어 저장
+		result.put("suggestedName", found.suggestedName());
+		result.put("results", found.results());
+		return result;
+	}
+
+	/**
+	 * 초성 트라이, 자모 접두어/오타 교정 인덱스 조회
+	 *
+	 * @return 인메모리 단계에서 결과가 정해지면 그 결과, 아니면 null (검색 백엔드 조회 필요)
+	 */
+	private SearchResultCache.SearchResult searchInMemory(String query) {
+		// 1️⃣ 'ㅁ', 'ㅁㅌ'과 같이 초성까지만 입력: 인메모리 초성 트라이를 통한 자동완성 조회
+		if (HangulUtils.isChoseongOnly(query)) {
+			long start = searchMetrics.start();
+			List<EncyclopediaSearchResponse> choseongResults =
+				autocompleteRanker.rank(query, cacheService.getCachedAutocomplete(query), AUTOCOMPLETE_LIMIT);
+			searchMetrics.recordStage(SearchMetrics.STAGE_CHOSEONG, outcomeOf(choseongResults), start);
+			return new SearchResultCache.SearchResult(null, choseongResults);
+		}
+
+		if (!HangulUtils.containsHangul(query)) {
+			return null;
+		}
+
+		// 2️⃣ '말ㅌ', '수크ㄹ'처럼 입력 중인 한글: 인메모리 자모 접두어 인덱스 조회
+		long start = searchMetrics.start();
+		List<EncyclopediaSearchResponse> jamoResults =
+			autocompleteRanker.rank(query, jamoPrefixIndex.search(query), AUTOCOMPLETE_LIMIT);
+		searchMetrics.recordStage(SearchMetrics.STAGE_JAMO_PREFIX, outcomeOf(jamoResults), start);
+		if (!jamoResults.isEmpty()) {
+			return new SearchResultCache.SearchResult(null, jamoResults);
+		}
 
+		// 🔤 접두어 결과가 없으면 인메모리 자모 오타 교정 (자판 인접 키 가중치, ES fuzzy 호출 생략)
+		start = searchMetrics.start();
+		Optional<JamoFuzzyIndex.Match> corrected = jamoFuzzyIndex.findClosest(query);
+		if (corrected.isPresent() && !corrected.get().isExact()) {
+			searchMetrics.recordStage(SearchMetrics.STAGE_JAMO_FUZZY, SearchMetrics.OUTCOME_SUGGESTION, start);
+			EncyclopediaSearchResponse match = corrected.get().ingredient();
+			return new SearchResultCache.SearchResult(match.getName(), List.of(match));
+		}
+		searchMetrics.recordStage(SearchMetrics.STAGE_JAMO_FUZZY, SearchMetrics.OUTCOME_MISS, start);
+		return null;
+	}
+
+	private SearchResultCache.SearchResult searchBackend(String query, boolean flag) {
 		// 0️⃣ flag=false: 정확한 검색만 수행 (자동완성, 오타 대응 X)
 		if (!flag) {
-			// DB에서 name 필드에 query가 포함된 항목들 조회
-			List<EncyclopediaSearchResponse> exact = encyclopediaRepository.findByNameContaining(query)
-				.stream()
-				.map(EncyclopediaSearchResponse::from)
-				.toList();
-
-			// 응답 구성
-			result.put("suggestedName", null);
-			result.put("results", exact);
-			return result;
+			// name 필드에 query가 포함된 항목들 조회 (ES 장애 시 로컬 Lucene 인덱스)
+			long start = searchMetrics.start();
+			List<EncyclopediaSearchResponse> exact;
+			try {
+				exact = searchBackendRouter.searchContaining(query);
+			} catch (RuntimeException e) {
+				searchMetrics.recordStage(SearchMetrics.STAGE_EXACT, SearchMetrics.OUTCOME_ERROR, start);
+				throw e;
+			}
+			searchMetrics.recordStage(SearchMetrics.STAGE_EXACT, outcomeOf(exact), start);
+
+			return new SearchResultCache.SearchResult(null, exact);
 		}
 
+		long start = searchMetrics.start();
 		try {
-			// 1️⃣ 'ㅁ'과 같이 초성까지만 입력: Redis 캐싱을 통한 자동완성 조회
-			if (query.length() == 1 && query.matches("^[ㄱ-ㅎ]$")) {
-				List<EncyclopediaSearchResponse> cached = cacheService.getCachedAutocomplete(query);
-				result.put("suggestedName", null);
-				if (!cached.isEmpty()) {
-					result.put("results", cached);
-					return result;
-				}
-
-				result.put("results", List.of());
-				return result;
+			// 3️⃣ Elasticsearch 자동완성 + Fuzzy 검색(오타 대응)을 한 번의 요청으로 수행 (ES 장애 시 로컬 Lucene 인덱스)
+			IngredientSearchBackend.CombinedSearchResult combined = searchBackendRouter.searchWithFuzzyFallback(query);
+			searchMetrics.recordStage(SearchMetrics.STAGE_PREFIX, outcomeOf(combined.prefixResults()), start);
+			if (!combined.prefixResults().isEmpty()) {
+				return new SearchResultCache.SearchResult(null,
+					autocompleteRanker.rank(query, combined.prefixResults(), AUTOCOMPLETE_LIMIT));
 			}
 
-			// 2️⃣ Elasticsearch 자동완성 fallback (edge_ngram 기반 prefix 검색)
-			List<EncyclopediaSearchResponse> autoResults = autocompleteSearchService.searchAutocomplete(query);
-			if (!autoResults.isEmpty()) {
-				result.put("suggestedName", null);
-				result.put("results", autoResults);
-				return result;
-			}
-
-			// 3️⃣ Fuzzy 검색 (오타 대응)
-			EncyclopediaSearchResponse fuzzy = fuzzySearchService.searchFuzzy(query);
+			// 4️⃣ prefix 결과가 없으면 fuzzy 결과 사용 (같은 요청에 포함되어 있으므로 소요 시간은 prefix 단계에 기록)
+			EncyclopediaSearchResponse fuzzy = combined.fuzzyResult();
 			if (fuzzy != null) {
-				result.put("suggestedName", !fuzzy.getName().equalsIgnoreCase(query) ? fuzzy.getName() : null);
-				result.put("results", List.of(fuzzy));
-				return result;
+				String suggestedName = !fuzzy.getName().equalsIgnoreCase(query) ? fuzzy.getName() : null;
+				searchMetrics.recordStage(SearchMetrics.STAGE_FUZZY,
+					suggestedName != null ? SearchMetrics.OUTCOME_SUGGESTION : SearchMetrics.OUTCOME_HIT, start);
+				return new SearchResultCache.SearchResult(suggestedName, List.of(fuzzy));
 			}
 
-			result.put("suggestedName", null);
-			result.put("results", List.of());
-			return result;
+			searchMetrics.recordStage(SearchMetrics.STAGE_FUZZY, SearchMetrics.OUTCOME_MISS, start);
+			return new SearchResultCache.SearchResult(null, List.of());
 		} catch (Exception e) {
+			searchMetrics.recordStage(SearchMetrics.STAGE_PREFIX, SearchMetrics.OUTCOME_ERROR, start);
 			log.error("❌ Elasticsearch 검색 중 오류 - query={}, message={}", query, e.getMessage(), e);
 			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
 		}
 	}
+
+	private static String outcomeOf(List<EncyclopediaSearchResponse> results) {
+		return results.isEmpty() ? SearchMetrics.OUTCOME_MISS : SearchMetrics.OUTCOME_HIT;
+	}
 }
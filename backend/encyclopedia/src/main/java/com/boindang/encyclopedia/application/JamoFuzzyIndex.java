@@ -0,0 +1,138 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.common.util.JamoEditDistance;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 자모 단위 오타 교정 인덱스 (BK-트리)
+ *
+ * - 성분명을 자모 시퀀스로 분해해 BK-트리에 넣고, {@link JamoEditDistance}(자판 인접 가중치)로 가장 가까운 이름을 찾습니다.
+ * - "말티툴"처럼 자모 하나만 틀린 경우 음절 전체 치환(ES fuzzy)이 아닌 거리 1로 계산됩니다.
+ * - 허용 거리는 검색어 자모 길이에 비례하며(최대 {@link #MAX_DISTANCE}), 짧은 검색어는 교정하지 않습니다.
+ * - 거리가 같으면 길이 차이가 작은 이름, 그다음 이름 순으로 고릅니다.
+ */
+@Component
+public class JamoFuzzyIndex {
+
+	private static final int MIN_QUERY_LENGTH = 4;  // 자모 기준
+	private static final int MAX_DISTANCE = 4;
+
+	private volatile Node root;
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		rebuild(event.ingredients());
+	}
+
+	public void rebuild(List<IngredientDictionary> ingredients) {
+		Node newRoot = null;
+		for (IngredientDictionary ingredient : ingredients) {
+			String key = HangulUtils.decompose(ingredient.getName());
+			if (key.isEmpty()) continue;
+			EncyclopediaSearchResponse summary = EncyclopediaSearchResponse.from(ingredient);
+			if (newRoot == null) {
+				newRoot = new Node(key, summary);
+			} else {
+				newRoot.add(key, summary);
+			}
+		}
+		this.root = newRoot; // 완성된 트리로 원자적 교체
+	}
+
+	/**
+	 * 가장 가까운 성분 조회
+	 *
+	 * @param query 사용자가 입력한 검색어
+	 * @return 허용 거리 안에서 가장 가까운 성분 (정확히 일치하면 거리 0)
+	 */
+	public Optional<Match> findClosest(String query) {
+		Node current = root;
+		if (current == null || query == null) return Optional.empty();
+
+		String key = HangulUtils.decompose(query);
+		if (key.length() < MIN_QUERY_LENGTH) return Optional.empty();
+
+		int limit = tolerance(key.length());
+		Node best = null;
+		int bestDistance = limit + 1;
+
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(current);
+		while (!stack.isEmpty()) {
+			Node node = stack.pop();
+			int distance = JamoEditDistance.distance(key, node.key);
+			if (distance < bestDistance || (distance == bestDistance && best != null && closer(key, node, best))) {
+				best = node;
+				bestDistance = distance;
+			}
+			// 삼각 부등식: |d(q,node) - d(node,child)| <= bestDistance 인 자식만 탐색
+			int radius = Math.min(limit, bestDistance);
+			for (int d = Math.max(1, distance - radius); d <= distance + radius && d < node.children.length; d++) {
+				if (node.children[d] != null) stack.push(node.children[d]);
+			}
+		}
+
+		if (best == null || bestDistance > limit) return Optional.empty();
+		return Optional.of(new Match(best.summary, bestDistance));
+	}
+
+	// 자모 9개("말티톨") 기준 4 — 인접 키 오타 네 번 또는 음절 하나(자모 2개) 누락까지 허용
+	static int tolerance(int keyLength) {
+		return Math.min(MAX_DISTANCE, keyLength / 3 + 1);
+	}
+
+	private static boolean closer(String key, Node candidate, Node best) {
+		int candidateGap = Math.abs(candidate.key.length() - key.length());
+		int bestGap = Math.abs(best.key.length() - key.length());
+		if (candidateGap != bestGap) return candidateGap < bestGap;
+		return candidate.summary.getName().compareTo(best.summary.getName()) < 0;
+	}
+
+	public record Match(EncyclopediaSearchResponse ingredient, int distance) {
+
+		public boolean isExact() {
+			return distance == 0;
+		}
+	}
+
+	private static final class Node {
+
+		private final String key;
+		private final EncyclopediaSearchResponse summary;
+		private Node[] children = new Node[0]; // 부모와의 거리를 인덱스로 사용
+
+		private Node(String key, EncyclopediaSearchResponse summary) {
+			this.key = key;
+			this.summary = summary;
+		}
+
+		private void add(String newKey, EncyclopediaSearchResponse newSummary) {
+			Node node = this;
+			while (true) {
+				int distance = JamoEditDistance.distance(newKey, node.key);
+				if (distance == 0) return; // 같은 자모 시퀀스는 먼저 들어온 성분 유지
+				if (distance >= node.children.length) {
+					node.children = Arrays.copyOf(node.children, distance + 1);
+				}
+				if (node.children[distance] == null) {
+					node.children[distance] = new Node(newKey, newSummary);
+					return;
+				}
+				node = node.children[distance];
+			}
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+/**
+ * 자모 분해 기반 접두어 자동완성 인덱스
+ *
+ * - 성분명을 미리 자모 시퀀스로 분해해 정렬된 배열로 보관합니다. ("말티톨" → "ㅁㅏㄹㅌㅣㅌㅗㄹ")
+ * - 입력 중인 "말ㅌ", "수크ㄹ" 같은 미완성 검색어도 같은 방식으로 분해한 뒤 이진 탐색으로 접두어 범위를 찾습니다.
+ * - 여러 단어로 된 성분명은 각 단어 시작 위치도 키로 등록합니다.
+ */
+@Component
+public class JamoPrefixIndex {
+
+	private volatile Snapshot snapshot = new Snapshot(new String[0], new EncyclopediaSearchResponse[0]);
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		rebuild(event.ingredients());
+	}
+
+	public void rebuild(List<IngredientDictionary> ingredients) {
+		List<Entry> entries = new ArrayList<>();
+		for (IngredientDictionary ingredient : ingredients) {
+			EncyclopediaSearchResponse summary = EncyclopediaSearchResponse.from(ingredient);
+			String[] words = ingredient.getName().trim().split("\\s+");
+			for (int i = 0; i < words.length; i++) {
+				// i번째 단어부터 끝까지를 하나의 키로 사용
+				String key = HangulUtils.decompose(String.join("", Arrays.asList(words).subList(i, words.length)));
+				entries.add(new Entry(key, summary));
+			}
+		}
+		entries.sort((a, b) -> a.key.compareTo(b.key));
+
+		String[] keys = new String[entries.size()];
+		EncyclopediaSearchResponse[] summaries = new EncyclopediaSearchResponse[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			keys[i] = entries.get(i).key;
+			summaries[i] = entries.get(i).summary;
+		}
+		this.snapshot = new Snapshot(keys, summaries); // 완성된 인덱스로 원자적 교체
+	}
+
+	/**
+	 * 자모 단위 접두어 검색 (접두어 범위 전체)
+	 *
+	 * - 자모 순으로 자른 후보에는 인기 성분이 빠질 수 있으므로, 순위는 호출 측({@link AutocompleteRanker})에서 전체 범위를 대상으로 정합니다.
+	 *
+	 * @param query 사용자가 입력 중인 검색어 (미완성 글자 포함 가능)
+	 * @return 분해된 검색어로 시작하는 모든 성분의 응답 리스트 (자모 순)
+	 */
+	public List<EncyclopediaSearchResponse> search(String query) {
+		return search(query, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 자모 단위 접두어 검색
+	 *
+	 * @param query 사용자가 입력 중인 검색어 (미완성 글자 포함 가능)
+	 * @param limit 최대 결과 수
+	 * @return 분해된 검색어로 시작하는 성분들의 응답 리스트 (자모 순)
+	 */
+	public List<EncyclopediaSearchResponse> search(String query, int limit) {
+		String prefix = HangulUtils.decompose(query);
+		if (prefix.isEmpty()) return List.of();
+
+		Snapshot current = snapshot;
+		List<EncyclopediaSearchResponse> results = new ArrayList<>(Math.min(limit, 16));
+		Set<String> seenIds = new HashSet<>();
+
+		for (int i = lowerBound(current.keys, prefix); i < current.keys.length && results.size() < limit; i++) {
+			if (!current.keys[i].startsWith(prefix)) break;
+			EncyclopediaSearchResponse summary = current.summaries[i];
+			if (seenIds.add(summary.getId())) {
+				results.add(summary);
+			}
+		}
+		return results;
+	}
+
+	private static int lowerBound(String[] keys, String prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private record Entry(String key, EncyclopediaSearchResponse summary) {
+	}
+
+	private record Snapshot(String[] keys, EncyclopediaSearchResponse[] summaries) {
+	}
+}
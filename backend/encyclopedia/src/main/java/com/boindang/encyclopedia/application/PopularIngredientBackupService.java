@@ -1,14 +1,25 @@
 package com.boindang.encyclopedia.application;
 
 import com.boindang.encyclopedia.domain.PopularIngredientBackup;
-import com.boindang.encyclopedia.infrastructure.PopularIngredientBackupRepository;
+import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
+import com.boindang.encyclopedia.infrastructure.PopularIngredientBackupJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -16,30 +27,134 @@ import java.util.Set;
 @Service
 public class PopularIngredientBackupService { // 백업 및 데이터 정리용 서비스
 
+    private static final int CHUNK_SIZE = 500;
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final PopularIngredientBackupRepository backupRepository;
+    private final PopularIngredientBackupJdbcRepository backupJdbcRepository;
+    private final EncyclopediaRepository encyclopediaRepository;
+    private final IngredientNameDictionary ingredientNameDictionary;
+    private final TransactionTemplate transactionTemplate;
 
-    private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
+    private static final String POPULAR_INGREDIENT_KEY = PopularIngredientCounter.POPULAR_INGREDIENT_KEY;
+    private static final String SNAPSHOT_KEY = POPULAR_INGREDIENT_KEY + ":backup";
 
+    /**
+     * 일간 인기 성분 ZSET을 MySQL로 백업한 뒤 초기화
+     *
+     * - 먼저 ZSET을 스냅샷 키로 RENAME(원자적)합니다. 이후 들어오는 집계(PopularIngredientCounter flush)는 새 키에 쌓이므로
+     *   백업 도중 추가된 점수가 백업 없이 지워지지 않습니다. (RENAME 으로 일간 ZSET이 비워지므로 따로 DEL 하지 않음)
+     * - 스냅샷을 ZSCAN으로 CHUNK_SIZE 단위씩 읽어 메모리 사용량을 일정하게 유지합니다.
+     *   ZSCAN은 같은 멤버를 두 번 돌려줄 수 있으므로 이미 백업한 ID는 건너뜁니다.
+     * - 성분명은 인메모리 사전에서 조회하고, 사전에 없는 ID만 ES에 한 번에 조회합니다.
+     * - 스냅샷 하나의 insert는 하나의 트랜잭션에서 JDBC 배치로 수행하고, 스냅샷 키는 커밋이 끝난 뒤에만 지웁니다.
+     *   커밋에 실패하면 스냅샷이 남고, 다음 실행에서 남은 스냅샷을 먼저 백업한 뒤 현재 ZSET도 이어서 백업합니다.
+     */
     public void backupAndClear() {
-        Set<ZSetOperations.TypedTuple<String>> set =
-                redisTemplate.opsForZSet().reverseRangeWithScores(POPULAR_INGREDIENT_KEY, 0, -1);
+        int total = 0;
+
+        // 1. 이전 실행에서 남은 스냅샷 (실패 시 예외로 중단 → 현재 ZSET은 그대로 두고 다음 실행에서 재시도)
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(SNAPSHOT_KEY))) {
+            log.warn("❗ 이전 백업에서 남은 인기 성분 스냅샷을 먼저 백업합니다.");
+            total += backupSnapshot();
+        }
 
-        if (set == null || set.isEmpty()) {
+        // 2. 현재 ZSET (스냅샷이 지워진 뒤에만 RENAME 가능)
+        if (renameLiveToSnapshot()) {
+            total += backupSnapshot();
+        } else if (total == 0) {
             log.info("✅ 백업할 인기 성분 없음");
             return;
         }
 
-        LocalDate today = LocalDate.now();
-        set.forEach(entry -> {
-            backupRepository.save(PopularIngredientBackup.builder()
-                    .ingredientName(entry.getValue())
-                    .score(entry.getScore().longValue())
-                    .backupDate(today)
-                    .build());
+        log.info("✅ 인기 성분 백업 및 초기화 완료 - count={}", total);
+    }
+
+    // 스냅샷 하나를 한 트랜잭션으로 백업하고, 커밋 후 스냅샷 키 삭제
+    private int backupSnapshot() {
+        Integer count = transactionTemplate.execute(status -> {
+            LocalDate today = LocalDate.now();
+            Map<String, String> fetchedNames = new HashMap<>();
+            Set<String> written = new HashSet<>();
+            int total = 0;
+
+            ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+            try (Cursor<ZSetOperations.TypedTuple<String>> cursor =
+                     redisTemplate.opsForZSet().scan(SNAPSHOT_KEY, options)) {
+
+                List<ZSetOperations.TypedTuple<String>> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (cursor.hasNext()) {
+                    ZSetOperations.TypedTuple<String> entry = cursor.next();
+                    if (entry.getValue() != null && entry.getScore() != null && written.add(entry.getValue())) {
+                        chunk.add(entry);
+                    }
+                    if (chunk.size() == CHUNK_SIZE) {
+                        total += writeChunk(chunk, fetchedNames, today);
+                        chunk.clear();
+                    }
+                }
+                total += writeChunk(chunk, fetchedNames, today);
+            }
+
+            deleteSnapshotAfterCommit();
+            return total;
+        });
+        return count == null ? 0 : count;
+    }
+
+    // 현재 ZSET을 스냅샷 키로 옮김 (옮길 키가 없거나 스냅샷이 아직 남아 있으면 false)
+    private boolean renameLiveToSnapshot() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(POPULAR_INGREDIENT_KEY))) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.renameIfAbsent(POPULAR_INGREDIENT_KEY, SNAPSHOT_KEY));
+        } catch (Exception e) {
+            // hasKey 이후 키가 사라진 경우 (ERR no such key)
+            log.warn("❗ 인기 성분 스냅샷 생성 실패 - message={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteSnapshotAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.delete(SNAPSHOT_KEY);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.delete(SNAPSHOT_KEY);
+            }
         });
+    }
+
+    private int writeChunk(List<ZSetOperations.TypedTuple<String>> chunk, Map<String, String> fetchedNames,
+                           LocalDate backupDate) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<String> missing = chunk.stream()
+            .map(ZSetOperations.TypedTuple::getValue)
+            .filter(id -> id != null && ingredientNameDictionary.findName(id).isEmpty() && !fetchedNames.containsKey(id))
+            .toList();
+        if (!missing.isEmpty()) {
+            // 사전 적재 전이거나 최근 추가된 성분만 ES에서 일괄 조회
+            encyclopediaRepository.findByIdIn(missing)
+                .forEach(ingredient -> fetchedNames.put(ingredient.getId(), ingredient.getName()));
+        }
+
+        List<PopularIngredientBackup> backups = chunk.stream()
+            .filter(entry -> entry.getValue() != null && entry.getScore() != null)
+            .map(entry -> PopularIngredientBackup.builder()
+                .ingredientId(entry.getValue())
+                .ingredientName(ingredientNameDictionary.findName(entry.getValue())
+                    .orElse(fetchedNames.getOrDefault(entry.getValue(), "(이름없음)")))
+                .score(entry.getScore().longValue())
+                .backupDate(backupDate)
+                .build())
+            .toList();
 
-        redisTemplate.delete(POPULAR_INGREDIENT_KEY);
-        log.info("✅ 인기 성분 백업 및 초기화 완료");
+        backupJdbcRepository.batchInsert(backups);
+        return backups.size();
     }
 }
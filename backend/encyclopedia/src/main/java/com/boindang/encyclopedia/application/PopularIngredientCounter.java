@@ -0,0 +1,104 @@
+package com.boindang.encyclopedia.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 검색어 카운트 버퍼
+ *
+ * - /count 요청은 {@link IngredientNameDictionary}로 정확 일치 여부를 판단한 뒤, 메모리 버퍼(LongAdder)에만 누적합니다.
+ * - 누적된 카운트는 주기적으로 한 번의 파이프라인(ZINCRBY + EXPIRE)으로 Redis에 반영됩니다.
+ *   일간 ZSET(자정 백업용)과 시간 단위 버킷 ZSET({@link TrendingIngredientRanking} 집계용)에 함께 기록합니다.
+ * - 종료 시 남은 카운트를 마지막으로 한 번 더 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularIngredientCounter {
+
+    public static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
+    private static final Duration POPULAR_INGREDIENT_TTL = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${encyclopedia.trending.window-hours:24}")
+    private int trendingWindowHours;
+
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(String ingredientId) {
+        pending.computeIfAbsent(ingredientId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${encyclopedia.popular.flush-interval-ms:300}")
+    public void flush() {
+        Map<String, Long> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<String> serializer = RedisSerializer.string();
+        byte[] dailyKey = serializer.serialize(POPULAR_INGREDIENT_KEY);
+        byte[] bucketKey = serializer.serialize(TrendingIngredientRanking.bucketKey(Instant.now()));
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                writeBatch(connection, dailyKey, batch, serializer, POPULAR_INGREDIENT_TTL);
+                writeBatch(connection, bucketKey, batch, serializer,
+                    TrendingIngredientRanking.bucketTtl(trendingWindowHours));
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영 실패한 카운트는 버퍼로 되돌려 다음 주기에 재시도
+            batch.forEach((id, count) -> pending.computeIfAbsent(id, k -> new LongAdder()).add(count));
+            log.error("❌ 인기 검색어 카운트 반영 실패 - size={}, message={}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+        long remaining = pending.values().stream().mapToLong(LongAdder::sum).sum();
+        if (remaining > 0) {
+            log.warn("❗ 종료 시 반영하지 못한 인기 검색어 카운트가 있습니다 - count={}", remaining);
+        }
+    }
+
+    private Map<String, Long> drain() {
+        Map<String, Long> batch = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long count = adder.sum();
+            if (count > 0) {
+                // reset 대신 읽은 만큼만 빼서 flush 도중 들어온 증가분을 잃지 않음
+                adder.add(-count);
+                batch.put(entry.getKey(), count);
+            }
+        }
+        return batch;
+    }
+
+    private void writeBatch(RedisConnection connection, byte[] key, Map<String, Long> batch,
+                            RedisSerializer<String> serializer, Duration ttl) {
+        for (Map.Entry<String, Long> entry : batch.entrySet()) {
+            connection.zSetCommands().zIncrBy(key, entry.getValue(), serializer.serialize(entry.getKey()));
+        }
+        connection.keyCommands().expire(key, ttl.getSeconds());
+    }
+}
@@ -0,0 +1,88 @@
+package com.boindang.encyclopedia.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.ReportIndexChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * reports 인덱스 버전
+ *
+ * - reports 는 ingredients 재색인(세대)과 별도로 수정되므로, 인덱스 통계(_stats)로 내용 변경을 감지합니다.
+ *   버전 = CRC32(실제 인덱스 uuid, primaries 의 index_total / delete_total) → 문서 추가·수정·삭제, 별칭 교체 시 바뀝니다.
+ * - 같은 클러스터를 보는 모든 인스턴스가 같은 값을 계산하므로 Redis 캐시 키에 그대로 쓸 수 있습니다.
+ * - 값이 바뀌면 {@link ReportIndexChangedEvent}를 발행합니다. 조회에 실패하면 마지막 버전을 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportIndexVersion {
+
+	private static final String STATS_ENDPOINT = "/reports/_stats/indexing";
+
+	private final RestHighLevelClient client;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private volatile long version = 0L;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		refresh();
+	}
+
+	@Scheduled(fixedDelayString = "${encyclopedia.report.version-check-interval-ms:30000}", initialDelay = 30000)
+	public void refresh() {
+		long next;
+		try {
+			Response response = client.getLowLevelClient().performRequest(new Request("GET", STATS_ENDPOINT));
+			next = versionOf(objectMapper.readTree(response.getEntity().getContent()));
+		} catch (Exception e) {
+			log.warn("❗ reports 인덱스 버전 조회 실패, 현재 버전 유지 - message={}", e.getMessage());
+			return;
+		}
+
+		if (next != version) {
+			long previous = version;
+			version = next;
+			log.info("✅ reports 인덱스 변경 감지 - version={} → {}", previous, next);
+			eventPublisher.publishEvent(new ReportIndexChangedEvent(next));
+		}
+	}
+
+	public long current() {
+		return version;
+	}
+
+	static long versionOf(JsonNode stats) {
+		StringBuilder sb = new StringBuilder();
+		Iterator<Map.Entry<String, JsonNode>> indices = stats.path("indices").fields();
+		while (indices.hasNext()) {
+			Map.Entry<String, JsonNode> index = indices.next();
+			JsonNode indexing = index.getValue().path("primaries").path("indexing");
+			sb.append(index.getKey()).append(':')
+				.append(index.getValue().path("uuid").asText()).append(':')
+				.append(indexing.path("index_total").asLong()).append(':')
+				.append(indexing.path("delete_total").asLong()).append(';');
+		}
+		CRC32 crc = new CRC32();
+		crc.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+}
@@ -0,0 +1,124 @@
+package com.boindang.encyclopedia.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.application.event.ReportIndexChangedEvent;
+import com.boindang.encyclopedia.common.cache.TwoTierCache;
+import com.boindang.encyclopedia.presentation.dto.response.IngredientReportResponse;
+import com.boindang.encyclopedia.presentation.dto.response.UserReportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 성분 리포트(/user-type) 결과 캐시
+ *
+ * - 키: (userType, 정렬·중복 제거된 원재료명 목록) → 순서만 다른 같은 제품 요청은 같은 결과를 공유합니다.
+ * - Caffeine L1 + Redis L2, 키 버전에 ingredients 세대와 reports 인덱스 버전({@link ReportIndexVersion})을 함께 넣으므로
+ *   재색인이나 reports 문서 수정 시 일괄 무효화됩니다.
+ * - 원재료명 변환이 ES 오류로 불완전했던 응답(degraded)은 캐싱하지 않습니다.
+ * - 캐시된 응답의 성분 목록은 요청한 원재료명 순서대로 다시 정렬해 돌려줍니다.
+ */
+@Component
+public class ReportResultCache {
+
+	private static final char NAME_SEPARATOR = '\u001F';
+
+	private final TwoTierCache<UserReportResponse> cache;
+
+	public ReportResultCache(RedisTemplate<String, byte[]> binaryRedisTemplate,
+		ObjectMapper objectMapper,
+		IngredientCatalog ingredientCatalog,
+		ReportIndexVersion reportIndexVersion,
+		MeterRegistry meterRegistry,
+		@Value("${encyclopedia.cache.report.max-size:5000}") long maxSize,
+		@Value("${encyclopedia.cache.report.local-ttl:10m}") Duration localTtl,
+		@Value("${encyclopedia.cache.report.remote-ttl:6h}") Duration remoteTtl) {
+		this.cache = new TwoTierCache<>(
+			"report",
+			Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(localTtl)
+				.recordStats()
+				.build(),
+			binaryRedisTemplate,
+			objectMapper,
+			objectMapper.constructType(UserReportResponse.class),
+			remoteTtl,
+			() -> 31 * ingredientCatalog.getGeneration() + reportIndexVersion.current(),
+			meterRegistry);
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		cache.invalidateLocal();
+	}
+
+	@EventListener
+	public void onReportIndexChanged(ReportIndexChangedEvent event) {
+		cache.invalidateLocal();
+	}
+
+	/**
+	 * @param cacheable loader 가 만든 응답을 저장해도 되는지 (loader 실행 후 평가)
+	 */
+	public UserReportResponse get(List<String> ingredientNames, String userType, Supplier<UserReportResponse> loader,
+		BooleanSupplier cacheable) {
+		UserReportResponse cached = cache.get(keyOf(ingredientNames, userType), loader, value -> cacheable.getAsBoolean());
+		return cached != null ? reorder(cached, ingredientNames) : null;
+	}
+
+	private String keyOf(List<String> ingredientNames, String userType) {
+		Set<String> canonical = new TreeSet<>();
+		for (String name : ingredientNames) {
+			if (name != null) canonical.add(name.trim());
+		}
+
+		StringBuilder sb = new StringBuilder(Objects.toString(userType, "").toLowerCase(Locale.ROOT));
+		canonical.forEach(name -> sb.append(NAME_SEPARATOR).append(name));
+
+		// 원재료 목록이 길어도 Redis 키 길이가 일정하도록 해시 사용
+		return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private UserReportResponse reorder(UserReportResponse cached, List<String> ingredientNames) {
+		Map<String, IngredientReportResponse> byName = new HashMap<>();
+		for (IngredientReportResponse ingredient : cached.getIngredients()) {
+			byName.putIfAbsent(ingredient.getName().trim(), ingredient);
+		}
+
+		List<IngredientReportResponse> ordered = new ArrayList<>(byName.size());
+		for (String name : new LinkedHashSet<>(ingredientNames)) {
+			if (name == null) continue;
+			IngredientReportResponse ingredient = byName.get(name.trim());
+			if (ingredient != null) {
+				ordered.add(ingredient.getName().equals(name) ? ingredient : ingredient.toBuilder().name(name).build());
+			}
+		}
+
+		return UserReportResponse.builder()
+			.ingredients(ordered)
+			.topRisks(cached.getTopRisks())
+			.build();
+	}
+}
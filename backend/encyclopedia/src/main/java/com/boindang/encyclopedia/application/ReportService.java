@@ -3,83 +3,121 @@ package com.boindang.encyclopedia.application;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.stream.Collectors;
-
-import org.elasticsearch.action.search.SearchRequest;
-import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.client.RequestOptions;
-import org.elasticsearch.client.RestHighLevelClient;
-import org.elasticsearch.common.unit.Fuzziness;
-import org.elasticsearch.index.query.QueryBuilders;
-import org.elasticsearch.search.SearchHit;
-import org.elasticsearch.search.builder.SearchSourceBuilder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import com.boindang.encyclopedia.common.exception.ElasticSearchException;
 import com.boindang.encyclopedia.domain.IngredientDictionary;
-import com.boindang.encyclopedia.domain.ReportDocument;
+import com.boindang.encyclopedia.domain.UserType;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaRepository;
-import com.boindang.encyclopedia.infrastructure.ReportElasticsearchRepository;
 import com.boindang.encyclopedia.presentation.dto.response.IngredientReportResponse;
 import com.boindang.encyclopedia.presentation.dto.response.RiskIngredientSummary;
 import com.boindang.encyclopedia.presentation.dto.response.UserReportResponse;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ReportService {
 
-	private final ReportElasticsearchRepository reportRepository;
+	private static final int TOP_RISK_LIMIT = 3;
+
+	private final CompiledReportCache compiledReportCache;
 	private final EncyclopediaRepository ingredientRepository;
-	private final RestHighLevelClient client;
+	private final IngredientNameResolver ingredientNameResolver;
+	private final ReportResultCache reportResultCache;
+	private final Executor lookupExecutor;
+	private final MeterRegistry meterRegistry;
+
+	public ReportService(CompiledReportCache compiledReportCache,
+		EncyclopediaRepository ingredientRepository,
+		IngredientNameResolver ingredientNameResolver,
+		ReportResultCache reportResultCache,
+		@Qualifier("reportLookupExecutor") Executor lookupExecutor,
+		MeterRegistry meterRegistry) {
+		this.compiledReportCache = compiledReportCache;
+		this.ingredientRepository = ingredientRepository;
+		this.ingredientNameResolver = ingredientNameResolver;
+		this.reportResultCache = reportResultCache;
+		this.lookupExecutor = lookupExecutor;
+		this.meterRegistry = meterRegistry;
+	}
 
+	/**
+	 * 사용자 유형별 성분 리포트 생성
+	 *
+	 * 1. 원재료명 → 실제 성분명 변환 (이후 단계의 입력이므로 먼저 수행)
+	 * 2. reports(컴파일 캐시) / ingredients 인덱스 조회를 동시에 수행
+	 * 3. 두 결과를 합쳐 응답 구성
+	 *
+	 * - 단계별 소요 시간은 encyclopedia.report.stage{stage=...} 메트릭으로 기록됩니다.
+	 * - 같은 (userType, 원재료 집합) 요청은 {@link ReportResultCache}에서 바로 응답합니다.
+	 *   단, 원재료명 변환이 ES 오류로 입력값 그대로 끝난 응답은 캐싱하지 않습니다.
+	 */
 	public UserReportResponse getUserReport(List<String> ingredientNames, String userType) {
-		Map<String, String> resolvedMap = resolveActualNames(ingredientNames);
+		AtomicBoolean degraded = new AtomicBoolean();
+		return reportResultCache.get(ingredientNames, userType,
+			() -> buildUserReport(ingredientNames, userType, degraded), () -> !degraded.get());
+	}
+
+	private UserReportResponse buildUserReport(List<String> ingredientNames, String userType, AtomicBoolean degraded) {
+		IngredientNameResolver.Resolution resolution = timed("resolve", () -> ingredientNameResolver.resolve(ingredientNames));
+		degraded.set(resolution.degraded());
+		Map<String, String> resolvedMap = resolution.names();
 		List<String> resolvedNames = new ArrayList<>(resolvedMap.values());
+		Set<String> reportNames = new HashSet<>();
+		resolvedNames.forEach(name -> reportNames.add(name.trim()));
 
-		List<ReportDocument> reports = reportRepository.findByNameIn(resolvedNames);
-		List<IngredientDictionary> ingredients = ingredientRepository.findByNameIn(resolvedNames);
+		CompletableFuture<Map<String, CompiledReport>> reportsFuture = CompletableFuture.supplyAsync(
+			() -> timed("reports", () -> compiledReportCache.getAll(reportNames)), lookupExecutor);
+		CompletableFuture<List<IngredientDictionary>> ingredientsFuture = CompletableFuture.supplyAsync(
+			() -> timed("ingredients", () -> ingredientRepository.findByNameIn(resolvedNames)), lookupExecutor);
 
-		Map<String, IngredientDictionary> ingredientMap = ingredients.stream()
-			.collect(Collectors.toMap(
-				i -> normalize(i.getName()),  // name 정규화
-				i -> i
-			));
+		Map<String, CompiledReport> reportMap = join(reportsFuture);
+		List<IngredientDictionary> ingredients = join(ingredientsFuture);
 
-		Map<String, ReportDocument> reportMap = reports.stream()
-			.collect(Collectors.toMap(ReportDocument::getName, r -> r, (a, b) -> a));
+		return timed("assemble", () -> assemble(resolvedMap, reportMap, ingredients, UserType.from(userType)));
+	}
+
+	private UserReportResponse assemble(Map<String, String> resolvedMap, Map<String, CompiledReport> reportMap,
+		List<IngredientDictionary> ingredients, UserType userType) {
+		Map<String, IngredientDictionary> ingredientMap = new HashMap<>();
+		for (IngredientDictionary ingredient : ingredients) {
+			ingredientMap.putIfAbsent(normalize(ingredient.getName()), ingredient);  // name 정규화
+		}
 
-		List<IngredientReportResponse> ingredientResponses = new ArrayList<>();
-		List<RiskIngredientData> riskyList = new ArrayList<>();
+		List<IngredientReportResponse> ingredientResponses = new ArrayList<>(resolvedMap.size());
+		// ✅ 점수 상위 3개만 유지하는 최소 힙 (점수가 같으면 먼저 나온 성분 우선)
+		PriorityQueue<RiskCandidate> topRiskHeap = new PriorityQueue<>(TOP_RISK_LIMIT + 1, RiskCandidate.WORST_FIRST);
+		Set<String> rankedNames = new HashSet<>();
 
 		for (Map.Entry<String, String> entry : resolvedMap.entrySet()) {
 			String original = entry.getKey();     // 사용자가 입력한 값
 			String resolved = entry.getValue().trim();   // 실제 검색된 성분
-			System.out.println("사용자가 입력한 성분: " + original);
-			System.out.println("실제 검색된 성분: " + resolved);
+			log.debug("사용자가 입력한 성분: {}, 실제 검색된 성분: {}", original, resolved);
 
 			IngredientDictionary ingredient = ingredientMap.get(normalize(resolved));
-			ReportDocument report = reportMap.get(resolved);
-
-			String riskLevel = report != null
-				? getRiskLevelByUserType(
-				report.getRiskLevel(),
-				userType,
-				(ingredient != null && ingredient.getRiskLevel() != null)
-					? ingredient.getRiskLevel().getLabel()
-					: "정보 없음"
-			)
-				: (ingredient != null && ingredient.getRiskLevel() != null)
+			CompiledReport report = reportMap.get(resolved);
+
+			String ingredientRiskLevel = (ingredient != null && ingredient.getRiskLevel() != null)
 				? ingredient.getRiskLevel().getLabel()
 				: "정보 없음";
-
-			int score = report != null ? getScoreByUserType(report, userType) : 0;
-			List<String> userMessage = report != null ? getMessageByUserType(report, userType) : List.of("정보 없음", "해당 성분에 대한 설명이 없습니다.");
+			String riskLevel = report != null ? report.riskLevel(userType, ingredientRiskLevel) : ingredientRiskLevel;
 
 			ingredientResponses.add(IngredientReportResponse.builder()
 				.name(original) // ✅ 추가됨
@@ -91,36 +129,32 @@ public class ReportService {
 				.riskLevel(riskLevel)
 				.build());
 
-			System.out.println("🔥 [ING] " + ingredient);
-			System.out.println("🔥 [ING DESC] " + (ingredient != null ? ingredient.getDescription() : "null"));
-			System.out.println("🔥 [ING GI] " + (ingredient != null ? ingredient.getGi() : "null"));
+			if (log.isTraceEnabled()) {
+				log.trace("🔥 [ING] {}, desc={}, gi={}", ingredient,
+					ingredient != null ? ingredient.getDescription() : null,
+					ingredient != null ? ingredient.getGi() : null);
+			}
 
-			if ("주의".equals(riskLevel) || "높음".equals(riskLevel)) {
-				riskyList.add(new RiskIngredientData(score, userMessage));
+			if (report != null && CompiledReport.isRisky(riskLevel) && rankedNames.add(report.getName())) {
+				topRiskHeap.offer(new RiskCandidate(report, report.score(userType), rankedNames.size()));
+				if (topRiskHeap.size() > TOP_RISK_LIMIT) {
+					topRiskHeap.poll();
+				}
 			}
 		}
 
-		List<RiskIngredientSummary> topRisks = reports.stream()
-			.filter(doc -> {
-				IngredientDictionary ingredient = ingredientMap.get(doc.getName());
-				String fallbackRisk = (ingredient != null && ingredient.getRiskLevel() != null)
-					? ingredient.getRiskLevel().getLabel()
-					: "정보 없음";
-				String risk = getRiskLevelByUserType(doc.getRiskLevel(), userType, fallbackRisk);
-				return "주의".equals(risk) || "높음".equals(risk);
-			})
-			.sorted(Comparator.comparingInt(doc -> getScoreByUserType((ReportDocument)doc, userType)).reversed())  // ✅ 정렬 여기서
-			.map(doc -> {
-				List<String> msg = getMessageByUserType(doc, userType);
-				return RiskIngredientSummary.builder()
-					.name(doc.getName())
-					.keyword(msg.get(0))
-					.title(msg.get(1))
-					.detail(msg.get(2))
-					.build();
-			})
-			.limit(3)
-			.toList();
+		List<RiskCandidate> ranked = new ArrayList<>(topRiskHeap);
+		ranked.sort(RiskCandidate.WORST_FIRST.reversed());
+		List<RiskIngredientSummary> topRisks = new ArrayList<>(ranked.size());
+		for (RiskCandidate candidate : ranked) {
+			List<String> msg = candidate.report().messages(userType);
+			topRisks.add(RiskIngredientSummary.builder()
+				.name(candidate.report().getName())
+				.keyword(messageAt(msg, 0))
+				.title(messageAt(msg, 1))
+				.detail(messageAt(msg, 2))
+				.build());
+		}
 
 		return UserReportResponse.builder()
 			.ingredients(ingredientResponses)
@@ -128,76 +162,60 @@ public class ReportService {
 			.build();
 	}
 
-	private String normalize(String input) {
-		return input == null ? "" : input.trim().replaceAll("\\s+", "");
+	private <T> T timed(String stage, Supplier<T> supplier) {
+		long start = System.nanoTime();
+		try {
+			return supplier.get();
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			Timer.builder("encyclopedia.report.stage")
+				.description("성분 리포트 생성 단계별 소요 시간")
+				.tag("stage", stage)
+				.register(meterRegistry)
+				.record(elapsed, TimeUnit.NANOSECONDS);
+			log.debug("리포트 단계 완료 - stage={}, elapsed={}ms", stage, elapsed / 1_000_000);
+		}
 	}
 
-	private String getRiskLevelByUserType(ReportDocument.RiskLevel reportRisk, String userType, String ingredientRiskLevel) {
-		return switch (userType.toLowerCase()) {
-			case "diabetic" -> reportRisk.getDiabetic();
-			case "kidneypatient" -> reportRisk.getKidneyPatient();
-			case "dieter" -> reportRisk.getDieter();
-			case "musclebuilder" -> reportRisk.getMuscleBuilder();
-			default -> ingredientRiskLevel != null ? ingredientRiskLevel : "정보 없음";
-		};
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new ElasticSearchException("성분 리포트 조회 중 오류가 발생했습니다.");
+		}
 	}
 
-	private int getScoreByUserType(ReportDocument doc, String userType) {
-		return switch (userType.toLowerCase()) {
-			case "diabetic" -> doc.getDiabeticScore();
-			case "kidneypatient" -> doc.getKidneyPatientScore();
-			case "dieter" -> doc.getDieterScore();
-			case "musclebuilder" -> doc.getMuscleBuilderScore();
-			default -> 0;
-		};
+	// 공백 제거 정규화 (정규식 대신 문자 단위 처리)
+	private static String normalize(String input) {
+		if (input == null) return "";
+		StringBuilder sb = null;
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+			if (Character.isWhitespace(c)) {
+				if (sb == null) sb = new StringBuilder(input.length()).append(input, 0, i);
+			} else if (sb != null) {
+				sb.append(c);
+			}
+		}
+		return sb != null ? sb.toString() : input;
 	}
 
-	private List<String> getMessageByUserType(ReportDocument doc, String userType) {
-		return switch (userType.toLowerCase()) {
-			case "diabetic" -> doc.getDiabetic();
-			case "kidneypatient" -> doc.getKidneyPatient();
-			case "dieter" -> doc.getDieter();
-			case "musclebuilder" -> doc.getMuscleBuilder();
-			default -> List.of("정보 없음", "유저타입 정보가 없습니다.");
-		};
+	private static String messageAt(List<String> messages, int index) {
+		return messages != null && messages.size() > index ? messages.get(index) : null;
 	}
 
-	private record RiskIngredientData(int score, List<String> message) {}
-
-	public Map<String, String> resolveActualNames(List<String> queries) {
-		Map<String, String> resolvedMap = new LinkedHashMap<>(); // 순서 유지
-
-		for (String query : queries) {
-			String bestMatch = null;
-			float topScore = -1f;
-
-			SearchRequest request = new SearchRequest("reports");
-			SearchSourceBuilder builder = new SearchSourceBuilder()
-				.query(QueryBuilders.boolQuery()
-					.should(QueryBuilders.matchQuery("name", query).fuzziness(Fuzziness.AUTO).boost(2.0f))
-					.should(QueryBuilders.prefixQuery("name", query).boost(1.0f))
-				)
-				.size(5);
-
-			request.source(builder);
-
-			try {
-				SearchResponse response = client.search(request, RequestOptions.DEFAULT);
-				for (SearchHit hit : response.getHits()) {
-					Map<String, Object> src = hit.getSourceAsMap();
-					if (src.get("name") != null && hit.getScore() > topScore) {
-						bestMatch = src.get("name").toString();
-						topScore = hit.getScore();
-					}
-				}
-			} catch (Exception e) {
-				// log
-			}
+	private record RiskCandidate(CompiledReport report, int score, int order) {
 
-			resolvedMap.put(query, bestMatch != null ? bestMatch : query);
-		}
+		// 힙의 top: 점수가 가장 낮고, 같으면 가장 늦게 나온 후보
+		static final Comparator<RiskCandidate> WORST_FIRST = Comparator.comparingInt(RiskCandidate::score)
+			.thenComparing(Comparator.comparingInt(RiskCandidate::order).reversed());
+	}
 
-		return resolvedMap;
+	public Map<String, String> resolveActualNames(List<String> queries) {
+		return ingredientNameResolver.resolve(queries).names();
 	}
 
 }
@@ -0,0 +1,144 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상태 기반 검색 백엔드 라우터
+ *
+ * - 기본 백엔드(primary)의 지연 시간과 오류율을 EWMA로 추적합니다.
+ * - 임계값을 넘으면 대체 백엔드(fallback, 내장 Lucene)로 보내고, probeInterval 마다 한 건씩 기본 백엔드로 보내 회복 여부를 확인합니다.
+ * - 기본 백엔드 호출이 실패하면 같은 요청을 대체 백엔드로 다시 처리합니다. (대체 백엔드가 준비되지 않았으면 원래 예외 전파)
+ * - 백엔드별 호출 시간/성공 여부는 {@link SearchMetrics}(encyclopedia.search.backend)로 기록합니다.
+ */
+@Slf4j
+@Component
+public class SearchBackendRouter {
+
+	private final IngredientSearchBackend primary;
+	private final IngredientSearchBackend fallback;
+	private final double errorRateThreshold;
+	private final double latencyThresholdMs;
+	private final long probeIntervalNanos;
+	private final double alpha;
+
+	private volatile double errorRate = 0.0;   // 최근 오류 비율 EWMA (0~1)
+	private volatile double latencyMs = 0.0;   // 최근 지연 시간 EWMA
+	private final AtomicLong lastProbeNanos = new AtomicLong();
+
+	private final Counter fallbackCounter;
+	private final SearchMetrics searchMetrics;
+
+	public SearchBackendRouter(List<IngredientSearchBackend> backends,
+		MeterRegistry meterRegistry,
+		SearchMetrics searchMetrics,
+		@Value("${encyclopedia.search.backend:elasticsearch}") String primaryName,
+		@Value("${encyclopedia.search.fallback.backend:lucene}") String fallbackName,
+		@Value("${encyclopedia.search.fallback.error-rate:0.5}") double errorRateThreshold,
+		@Value("${encyclopedia.search.fallback.latency-ms:800}") double latencyThresholdMs,
+		@Value("${encyclopedia.search.fallback.probe-interval:5s}") Duration probeInterval,
+		@Value("${encyclopedia.search.fallback.ewma-alpha:0.2}") double alpha) {
+		Map<String, IngredientSearchBackend> byName = backends.stream()
+			.collect(Collectors.toMap(IngredientSearchBackend::name, Function.identity()));
+		this.primary = require(byName, primaryName);
+		this.fallback = primaryName.equals(fallbackName) ? null : require(byName, fallbackName);
+		this.errorRateThreshold = errorRateThreshold;
+		this.latencyThresholdMs = latencyThresholdMs;
+		this.probeIntervalNanos = probeInterval.toNanos();
+		this.alpha = alpha;
+		this.searchMetrics = searchMetrics;
+
+		this.fallbackCounter = Counter.builder("encyclopedia.search.fallback")
+			.description("대체 검색 백엔드로 처리한 요청 수")
+			.register(meterRegistry);
+		Gauge.builder("encyclopedia.search.primary.healthy", this, router -> router.isPrimaryHealthy() ? 1 : 0)
+			.description("기본 검색 백엔드 정상 여부")
+			.register(meterRegistry);
+		log.info("✅ 검색 백엔드 구성 - primary={}, fallback={}", primaryName, fallback != null ? fallbackName : "없음");
+	}
+
+	public List<EncyclopediaSearchResponse> searchContaining(String query) {
+		return route("containing", backend -> backend.searchContaining(query));
+	}
+
+	public IngredientSearchBackend.CombinedSearchResult searchWithFuzzyFallback(String query) {
+		return route("autocomplete", backend -> backend.searchWithFuzzyFallback(query));
+	}
+
+	public boolean isPrimaryHealthy() {
+		return errorRate <= errorRateThreshold && latencyMs <= latencyThresholdMs;
+	}
+
+	private <T> T route(String operation, Function<IngredientSearchBackend, T> call) {
+		boolean fallbackAvailable = fallback != null && fallback.isReady();
+		if (fallbackAvailable && !isPrimaryHealthy() && !tryAcquireProbe()) {
+			fallbackCounter.increment();
+			return callFallback(operation, call);
+		}
+
+		long start = System.nanoTime();
+		try {
+			T result = call.apply(primary);
+			long elapsed = System.nanoTime() - start;
+			record(false, elapsed);
+			searchMetrics.recordBackend(primary.name(), operation, true, elapsed);
+			return result;
+		} catch (RuntimeException e) {
+			long elapsed = System.nanoTime() - start;
+			record(true, elapsed);
+			searchMetrics.recordBackend(primary.name(), operation, false, elapsed);
+			if (!fallbackAvailable) {
+				throw e;
+			}
+			log.warn("❗ 기본 검색 백엔드 실패, 대체 백엔드로 처리 - backend={}, message={}", primary.name(), e.getMessage());
+			fallbackCounter.increment();
+			return callFallback(operation, call);
+		}
+	}
+
+	private <T> T callFallback(String operation, Function<IngredientSearchBackend, T> call) {
+		long start = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = call.apply(fallback);
+			success = true;
+			return result;
+		} finally {
+			searchMetrics.recordBackend(fallback.name(), operation, success, System.nanoTime() - start);
+		}
+	}
+
+	// 비정상 상태에서도 probeInterval 마다 한 건은 기본 백엔드로 보내 EWMA를 갱신
+	private boolean tryAcquireProbe() {
+		long now = System.nanoTime();
+		long last = lastProbeNanos.get();
+		return now - last >= probeIntervalNanos && lastProbeNanos.compareAndSet(last, now);
+	}
+
+	private synchronized void record(boolean failed, long elapsedNanos) {
+		errorRate = alpha * (failed ? 1.0 : 0.0) + (1 - alpha) * errorRate;
+		latencyMs = alpha * (elapsedNanos / 1_000_000.0) + (1 - alpha) * latencyMs;
+	}
+
+	private static IngredientSearchBackend require(Map<String, IngredientSearchBackend> backends, String name) {
+		IngredientSearchBackend backend = backends.get(name);
+		if (backend == null) {
+			throw new IllegalStateException("알 수 없는 검색 백엔드: " + name + " (사용 가능: " + backends.keySet() + ")");
+		}
+		return backend;
+	}
+}
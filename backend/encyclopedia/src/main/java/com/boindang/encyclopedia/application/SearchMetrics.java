@@ -0,0 +1,63 @@
+package com.boindang.encyclopedia.application;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * /search 단계별 메트릭
+ *
+ * - encyclopedia.search.stage{stage, outcome}: 단계별 소요 시간과 결과 (hit / miss / suggestion / error)
+ * - encyclopedia.search.backend{backend, operation, result}: 검색 백엔드(ES, Lucene, MySQL) 호출 소요 시간
+ * - Timer 는 태그 조합별로 한 번만 등록하고 재사용합니다.
+ */
+@Component
+public class SearchMetrics {
+
+	public static final String STAGE_EXACT = "exact";
+	public static final String STAGE_CHOSEONG = "choseong";
+	public static final String STAGE_JAMO_PREFIX = "jamo_prefix";
+	public static final String STAGE_JAMO_FUZZY = "jamo_fuzzy";
+	public static final String STAGE_PREFIX = "prefix";
+	public static final String STAGE_FUZZY = "fuzzy";
+
+	public static final String OUTCOME_HIT = "hit";
+	public static final String OUTCOME_MISS = "miss";
+	public static final String OUTCOME_SUGGESTION = "suggestion";
+	public static final String OUTCOME_ERROR = "error";
+
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+	public SearchMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public long start() {
+		return System.nanoTime();
+	}
+
+	public void recordStage(String stage, String outcome, long startNanos) {
+		timer("encyclopedia.search.stage", "검색 단계별 소요 시간", "stage", stage, "outcome", outcome)
+			.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordBackend(String backend, String operation, boolean success, long elapsedNanos) {
+		timer("encyclopedia.search.backend", "검색 백엔드 호출 소요 시간",
+			"backend", backend, "operation", operation, "result", success ? "success" : "error")
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private Timer timer(String name, String description, String... tags) {
+		return timers.computeIfAbsent(name + '|' + String.join("|", tags), key -> Timer.builder(name)
+			.description(description)
+			.tags(tags)
+			.publishPercentileHistogram()
+			.register(meterRegistry));
+	}
+}
@@ -0,0 +1,141 @@
+package com.boindang.encyclopedia.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * /search 결과 캐시
+ *
+ * - 키는 정규화한 검색어(앞뒤 공백 제거, 연속 공백 축약, 소문자)와 suggested 플래그입니다.
+ * - 결과가 없는(추천어도 없는) 응답은 짧은 TTL로 캐싱해, 가장 비싼 미스 경로(ES prefix + fuzzy)를 반복하지 않습니다.
+ * - 같은 키로 동시에 들어온 요청은 진행 중인 future 를 공유해 한 번만 실행되고 나머지는 그 결과를 기다립니다.
+ *   검색(네트워크 I/O)은 먼저 들어온 요청 스레드에서 캐시 맵 잠금 밖에서 실행하므로, 다른 키의 조회를 막지 않습니다.
+ * - future 는 Caffeine 의 조회 API({@link AsyncCache#get})로 등록하므로 hit/miss/load 통계가 search-result 메트릭에 기록됩니다.
+ * - 인메모리 단계(초성, 자모)로 끝나는 검색은 캐싱하지 않습니다. (호출 측에서 캐시를 거치지 않음)
+ * - 재색인(카탈로그 갱신) 시 전체를 비웁니다.
+ */
+@Component
+public class SearchResultCache {
+
+	private final AsyncCache<String, SearchResult> cache;
+
+	public SearchResultCache(MeterRegistry meterRegistry,
+		@Value("${encyclopedia.cache.search.max-size:20000}") long maxSize,
+		@Value("${encyclopedia.cache.search.ttl:10m}") Duration ttl,
+		@Value("${encyclopedia.cache.search.negative-ttl:30s}") Duration negativeTtl) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new ResultExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+			.recordStats()
+			.buildAsync();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "search-result");
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		cache.synchronous().invalidateAll();
+	}
+
+	/**
+	 * 캐시 조회, 없으면 loader 로 계산 후 저장
+	 *
+	 * @param normalizedQuery {@link #normalize(String)}로 정규화한 검색어
+	 * @param suggested 자동완성/오타 교정 사용 여부
+	 * @param loader 실제 검색 (예외 발생 시 캐싱하지 않음)
+	 */
+	public SearchResult get(String normalizedQuery, boolean suggested, Supplier<SearchResult> loader) {
+		String key = normalizedQuery + '|' + suggested;
+		// 매핑 함수는 맵 잠금 안에서 실행되므로 미완성 future 만 등록하고, 검색은 등록한 스레드가 잠금 밖에서 실행
+		CompletableFuture<SearchResult> created = new CompletableFuture<>();
+		CompletableFuture<SearchResult> future = cache.get(key, (k, executor) -> created);
+		if (future != created) {
+			return join(future);
+		}
+
+		try {
+			SearchResult result = loader.get();
+			created.complete(result);
+			return result;
+		} catch (Throwable t) {
+			// Error 도 반드시 완료시켜야 기다리는 요청이 join() 에서 멈추지 않음 (실패한 future 는 캐시에서 제거됨)
+			cache.asMap().remove(key, created);
+			created.completeExceptionally(t);
+			throw t;
+		}
+	}
+
+	private static SearchResult join(CompletableFuture<SearchResult> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public static String normalize(String query) {
+		if (query == null) return "";
+		StringBuilder sb = new StringBuilder(query.length());
+		boolean pendingSpace = false;
+		for (int i = 0; i < query.length(); i++) {
+			char c = query.charAt(i);
+			if (Character.isWhitespace(c)) {
+				pendingSpace = sb.length() > 0;
+				continue;
+			}
+			if (pendingSpace) {
+				sb.append(' ');
+				pendingSpace = false;
+			}
+			sb.append(c);
+		}
+		return sb.toString().toLowerCase(Locale.ROOT);
+	}
+
+	public record SearchResult(String suggestedName, List<EncyclopediaSearchResponse> results) {
+
+		public boolean isNegative() {
+			return suggestedName == null && (results == null || results.isEmpty());
+		}
+	}
+
+	private record ResultExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<String, SearchResult> {
+
+		@Override
+		public long expireAfterCreate(String key, SearchResult value, long currentTime) {
+			return value.isNegative() ? negativeTtlNanos : ttlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, SearchResult value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, SearchResult value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.boindang.encyclopedia.application;
+
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.presentation.dto.response.PopularIngredientResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시간 감쇠 기반 인기 성분 랭킹
+ *
+ * - 검색 카운트는 시간 단위 버킷 ZSET(popular:ingredients:h:{epochHour})에 누적됩니다.
+ * - 주기적으로 최근 windowHours 개 버킷을 ZUNIONSTORE 가중치(반감기 halfLifeHours)로 합산해 감쇠 점수를 계산하고,
+ *   상위 N개를 메모리 리스트로 구체화합니다.
+ * - 자정 초기화와 무관하게 항상 최근 검색 흐름이 반영된 랭킹을 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TrendingIngredientRanking {
+
+    public static final String BUCKET_KEY_PREFIX = "popular:ingredients:h:";
+    public static final String TRENDING_KEY = "popular:ingredients:trending";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final IngredientNameDictionary ingredientNameDictionary;
+    private final int windowHours;
+    private final double halfLifeHours;
+    private final int topSize;
+
+    private volatile List<PopularIngredientResponse> topIngredients = List.of();
+
+    public TrendingIngredientRanking(RedisTemplate<String, String> redisTemplate,
+                                     IngredientNameDictionary ingredientNameDictionary,
+                                     @Value("${encyclopedia.trending.window-hours:24}") int windowHours,
+                                     @Value("${encyclopedia.trending.half-life-hours:6}") double halfLifeHours,
+                                     @Value("${encyclopedia.trending.top-size:50}") int topSize) {
+        this.redisTemplate = redisTemplate;
+        this.ingredientNameDictionary = ingredientNameDictionary;
+        this.windowHours = windowHours;
+        this.halfLifeHours = halfLifeHours;
+        this.topSize = topSize;
+    }
+
+    public static String bucketKey(Instant instant) {
+        return BUCKET_KEY_PREFIX + epochHour(instant);
+    }
+
+    // 버킷은 집계 구간이 지나면 자연 만료
+    public static Duration bucketTtl(int windowHours) {
+        return Duration.ofHours(windowHours + 1L);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+        materialize(); // 성분명이 바뀌었을 수 있으므로 바로 다시 구체화
+    }
+
+    @Scheduled(fixedDelayString = "${encyclopedia.trending.refresh-interval-ms:60000}")
+    public void materialize() {
+        long currentHour = epochHour(Instant.now());
+
+        List<String> bucketKeys = new ArrayList<>(windowHours);
+        double[] weights = new double[windowHours];
+        for (int age = 0; age < windowHours; age++) {
+            bucketKeys.add(BUCKET_KEY_PREFIX + (currentHour - age));
+            weights[age] = Math.pow(0.5, age / halfLifeHours); // 지수 감쇠
+        }
+
+        try {
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            zSet.unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), TRENDING_KEY,
+                Aggregate.SUM, Weights.of(weights));
+            redisTemplate.expire(TRENDING_KEY, bucketTtl(windowHours));
+
+            Set<ZSetOperations.TypedTuple<String>> top = zSet.reverseRangeWithScores(TRENDING_KEY, 0, topSize - 1);
+            this.topIngredients = toResponses(top);
+        } catch (Exception e) {
+            // 이전에 구체화한 랭킹을 그대로 유지
+            log.error("❌ 인기 성분 랭킹 갱신 실패 - message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구체화된 상위 랭킹 조회 (네트워크 I/O 없음)
+     *
+     * @param limit 조회 개수
+     * @return 감쇠 점수 내림차순 성분 리스트 (아직 집계 전이면 빈 리스트)
+     */
+    public List<PopularIngredientResponse> getTop(int limit) {
+        List<PopularIngredientResponse> snapshot = topIngredients;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    private List<PopularIngredientResponse> toResponses(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        return tuples.stream()
+            .filter(entry -> entry.getValue() != null && entry.getScore() != null)
+            .map(entry -> new PopularIngredientResponse(
+                entry.getValue(),
+                ingredientNameDictionary.findName(entry.getValue()).orElse("(이름없음)"),
+                Math.round(entry.getScore())))
+            .toList();
+    }
+
+    private static long epochHour(Instant instant) {
+        return instant.getEpochSecond() / 3600;
+    }
+}
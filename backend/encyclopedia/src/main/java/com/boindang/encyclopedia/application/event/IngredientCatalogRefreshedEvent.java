@@ -0,0 +1,16 @@
+package com.boindang.encyclopedia.application.event;
+
+import java.util.List;
+
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+/**
+ * ingredients 인덱스 전체를 새로 적재했을 때 발행되는 이벤트
+ *
+ * - 인메모리 인덱스/캐시들은 이 이벤트를 받아 같은 세대(generation)의 데이터로 재구성합니다.
+ *
+ * @param generation  인덱스 세대 (재색인마다 증가, 인스턴스 간 Redis로 공유)
+ * @param ingredients 해당 세대의 전체 성분 문서
+ */
+public record IngredientCatalogRefreshedEvent(long generation, List<IngredientDictionary> ingredients) {
+}
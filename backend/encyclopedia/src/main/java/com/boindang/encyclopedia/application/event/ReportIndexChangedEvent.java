@@ -0,0 +1,11 @@
+package com.boindang.encyclopedia.application.event;
+
+/**
+ * reports 인덱스 내용이 바뀐 것을 감지했을 때 발행되는 이벤트
+ *
+ * - reports 문서를 캐싱하는 컴포넌트들은 이 이벤트를 받아 로컬 캐시를 비웁니다.
+ *
+ * @param version 새 reports 인덱스 버전 ({@link com.boindang.encyclopedia.application.ReportIndexVersion})
+ */
+public record ReportIndexChangedEvent(long version) {
+}
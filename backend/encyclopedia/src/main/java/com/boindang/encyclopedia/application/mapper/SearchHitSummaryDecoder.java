@@ -0,0 +1,83 @@
+package com.boindang.encyclopedia.application.mapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 검색 hit 의 _source 를 목록/검색용 요약 응답으로 바로 읽는 디코더
+ *
+ * - getSourceAsMap() 처럼 문서 전체를 HashMap 트리로 만들지 않고, _source JSON 을 스트리밍으로 읽어 필요한 필드만 꺼냅니다.
+ * - 요청 쪽에서는 {@link #withSummaryFields(SearchSourceBuilder)}로 같은 필드만 _source 로 받아 전송량도 줄입니다.
+ * - riskLevel 은 원본 값(이름 "CAUTION" 또는 라벨 "주의") 모두 라벨로 변환합니다.
+ */
+public final class SearchHitSummaryDecoder {
+
+    public static final String[] SUMMARY_FIELDS = {"id", "name", "engName", "type", "riskLevel"};
+
+    private static final String UNKNOWN_RISK_LEVEL = "정보 없음";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private SearchHitSummaryDecoder() {
+    }
+
+    /** 요약 필드만 _source 로 받도록 설정 */
+    public static SearchSourceBuilder withSummaryFields(SearchSourceBuilder builder) {
+        return builder.fetchSource(SUMMARY_FIELDS, null);
+    }
+
+    public static EncyclopediaSearchResponse decode(SearchHit hit) {
+        return decode(hit.getSourceRef());
+    }
+
+    public static EncyclopediaSearchResponse decode(BytesReference source) {
+        EncyclopediaSearchResponse.EncyclopediaSearchResponseBuilder builder = EncyclopediaSearchResponse.builder()
+            .riskLevel(UNKNOWN_RISK_LEVEL);
+        if (source == null || source.length() == 0) {
+            return builder.build();
+        }
+
+        BytesRef bytes = source.toBytesRef();
+        try (JsonParser parser = JSON_FACTORY.createParser(bytes.bytes, bytes.offset, bytes.length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return builder.build();
+            }
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    parser.skipChildren(); // 요약에 쓰지 않는 필드 (source filtering 이 없을 때)
+                    continue;
+                }
+                String value = token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                switch (field) {
+                    case "id" -> builder.id(value);
+                    case "name" -> builder.name(value);
+                    case "engName" -> builder.engName(value);
+                    case "type" -> builder.type(value);
+                    case "riskLevel" -> builder.riskLevel(toRiskLabel(value));
+                    default -> {
+                    }
+                }
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 결과 _source 를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static String toRiskLabel(String value) {
+        IngredientDictionary.RiskLevel level = value != null ? IngredientDictionary.RiskLevel.from(value) : null;
+        return level != null ? level.getLabel() : UNKNOWN_RISK_LEVEL;
+    }
+}
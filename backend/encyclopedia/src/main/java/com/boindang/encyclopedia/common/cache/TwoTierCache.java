@@ -0,0 +1,134 @@
+package com.boindang.encyclopedia.common.cache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(Caffeine) L1 + Redis L2 읽기 전용(read-through) 캐시
+ *
+ * - 조회 순서: L1 → L2 → loader. loader 결과는 L2, L1 순으로 채웁니다.
+ * - 모든 키에 인덱스 세대(generation)를 붙이므로, 재색인으로 세대가 바뀌면 이전 값은 즉시 보이지 않게 됩니다.
+ * - 같은 키에 대한 동시 요청은 L1에서 하나의 계산으로 합쳐집니다.
+ * - Redis 장애 시에는 L1 + loader 만으로 동작합니다.
+ * - cacheable 조건을 통과하지 못한 loader 결과(장애로 불완전하게 만든 응답 등)는 L1/L2 어디에도 저장하지 않습니다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+	private final String name;
+	private final Cache<String, V> local;
+	private final RedisTemplate<String, byte[]> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final JavaType type;
+	private final Duration remoteTtl;
+	private final LongSupplier generation;
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+
+	/**
+	 * @param local 통계 기록(recordStats)이 켜진 Caffeine 캐시
+	 */
+	public TwoTierCache(String name, Cache<String, V> local, RedisTemplate<String, byte[]> redisTemplate,
+		ObjectMapper objectMapper, JavaType type, Duration remoteTtl, LongSupplier generation,
+		MeterRegistry meterRegistry) {
+		this.name = name;
+		this.local = local;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.type = type;
+		this.remoteTtl = remoteTtl;
+		this.generation = generation;
+
+		CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+		this.remoteHits = Counter.builder("encyclopedia.cache.remote")
+			.tag("cache", name).tag("result", "hit")
+			.register(meterRegistry);
+		this.remoteMisses = Counter.builder("encyclopedia.cache.remote")
+			.tag("cache", name).tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	public V get(String key, Supplier<V> loader) {
+		return get(key, loader, value -> true);
+	}
+
+	/**
+	 * @param cacheable loader 결과를 저장할지 여부 (loader 를 실행한 호출의 조건으로 판단)
+	 */
+	public V get(String key, Supplier<V> loader, Predicate<? super V> cacheable) {
+		String versionedKey = "cache:" + name + ":v" + generation.getAsLong() + ":" + key;
+		try {
+			return local.get(versionedKey, k -> loadThroughRemote(k, loader, cacheable));
+		} catch (Uncacheable e) {
+			// 매핑 함수가 예외로 끝나면 Caffeine 은 값을 저장하지 않음
+			@SuppressWarnings("unchecked")
+			V value = (V) e.value;
+			return value;
+		}
+	}
+
+	/** 로컬 캐시만 비움 (Redis 쪽은 세대가 바뀐 키를 더 이상 조회하지 않으므로 TTL로 정리) */
+	public void invalidateLocal() {
+		local.invalidateAll();
+	}
+
+	private V loadThroughRemote(String key, Supplier<V> loader, Predicate<? super V> cacheable) {
+		V cached = readRemote(key);
+		if (cached != null) {
+			remoteHits.increment();
+			return cached;
+		}
+		remoteMisses.increment();
+
+		V loaded = loader.get();
+		if (loaded != null && !cacheable.test(loaded)) {
+			throw new Uncacheable(loaded);
+		}
+		if (loaded != null) {
+			writeRemote(key, loaded);
+		}
+		return loaded;
+	}
+
+	private V readRemote(String key) {
+		try {
+			byte[] bytes = redisTemplate.opsForValue().get(key);
+			return bytes != null ? objectMapper.readValue(bytes, type) : null;
+		} catch (Exception e) {
+			log.warn("❗ Redis 캐시 조회 실패 - cache={}, message={}", name, e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRemote(String key, V value) {
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsBytes(value), remoteTtl);
+		} catch (Exception e) {
+			log.warn("❗ Redis 캐시 저장 실패 - cache={}, message={}", name, e.getMessage());
+		}
+	}
+
+	// 저장하지 않을 값을 Caffeine 계산 밖으로 전달하기 위한 예외 (스택 트레이스 생략)
+	private static final class Uncacheable extends RuntimeException {
+
+		private final transient Object value;
+
+		private Uncacheable(Object value) {
+			super(null, null, false, false);
+			this.value = value;
+		}
+	}
+}
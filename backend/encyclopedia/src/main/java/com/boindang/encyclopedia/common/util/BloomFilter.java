@@ -0,0 +1,67 @@
+package com.boindang.encyclopedia.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * 문자열 전용 블룸 필터
+ *
+ * - 64비트 해시 하나를 두 개의 32비트 값으로 나눈 double hashing(h1 + i * h2)으로 k개의 비트 위치를 계산합니다.
+ * - mightContain 이 false 면 확실히 없는 값이고, true 면 (오탐 확률 fpp 로) 있을 수도 있는 값입니다.
+ * - 적재 후에는 읽기 전용으로만 사용하므로 별도 동기화가 없습니다.
+ */
+public final class BloomFilter {
+
+	private final BitSet bits;
+	private final int bitSize;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double fpp) {
+		int n = Math.max(expectedInsertions, 1);
+		double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+		// 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 개수 k = m / n * ln 2
+		this.bitSize = (int) Math.max(64, Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+		this.bits = new BitSet(bitSize);
+	}
+
+	public void put(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			bits.set(index(h1 + i * h2));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			if (!bits.get(index(h1 + i * h2))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitSize;
+	}
+
+	// FNV-1a 64비트 해시 후 비트 섞기(murmur3 fmix64)
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fe53a87f9L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,126 @@
+package com.boindang.encyclopedia.common.util;
+
+import java.util.Map;
+
+/**
+ * 한글 음절/자모 처리 유틸리티
+ *
+ * - 완성형 음절(가~힣)은 (초성 * 21 + 중성) * 28 + 종성 + 0xAC00 으로 구성됩니다.
+ */
+public final class HangulUtils {
+
+	private static final char SYLLABLE_BEGIN = 0xAC00; // 가
+	private static final char SYLLABLE_END = 0xD7A3;   // 힣
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private static final char[] CHOSEONG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	// 겹모음/겹받침은 실제 키 입력 순서대로 풀어서 표현 (예: ㅘ → ㅗㅏ, ㄺ → ㄹㄱ)
+	private static final String[] JUNGSEONG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+		"ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+
+	private static final String[] JONGSEONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+		"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	// 단독으로 입력된 호환용 겹자모(ㄳ, ㅘ 등)의 분해 결과
+	private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+		Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+		Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+		Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+		Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+		Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+		Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+		Map.entry('ㅢ', "ㅡㅣ")
+	);
+
+	private HangulUtils() {
+	}
+
+	/** 완성형 음절 또는 호환용 자모가 하나라도 포함되어 있는지 */
+	public static boolean containsHangul(String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c) || isJamo(c)) return true;
+		}
+		return false;
+	}
+
+	public static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+
+	/** 호환용 자음(ㄱ~ㅎ) 여부 */
+	public static boolean isConsonant(char c) {
+		return c >= 'ㄱ' && c <= 'ㅎ';
+	}
+
+	/** 호환용 자모(ㄱ~ㅣ) 여부 */
+	public static boolean isJamo(char c) {
+		return c >= 'ㄱ' && c <= 'ㅣ';
+	}
+
+	/** 문자열이 자음으로만 구성되어 있는지 (예: "ㅁㅌ") */
+	public static boolean isChoseongOnly(String text) {
+		if (text == null || text.isEmpty()) return false;
+		for (int i = 0; i < text.length(); i++) {
+			if (!isConsonant(text.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 문자열을 초성 키로 변환
+	 *
+	 * - 완성형 음절은 초성으로, 공백은 제거, 그 외 문자는 소문자로 그대로 유지합니다.
+	 * - 예: "말티톨" → "ㅁㅌㅌ", "비타민 B12" → "ㅂㅌㅁb12"
+	 */
+	public static String toChoseong(String text) {
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) continue;
+			if (isSyllable(c)) {
+				sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+			} else {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 문자열을 키 입력 단위의 자모 시퀀스로 분해
+	 *
+	 * - 완성형 음절은 초성/중성/종성으로, 겹모음·겹받침은 낱자로 풀어냅니다.
+	 * - 입력 중인 미완성 글자도 같은 규칙으로 분해되므로 접두어 비교가 가능합니다.
+	 * - 예: "말티톨" → "ㅁㅏㄹㅌㅣㅌㅗㄹ", "말ㅌ" → "ㅁㅏㄹㅌ", "수크ㄹ" → "ㅅㅜㅋㅡㄹ"
+	 * - 공백은 제거하고, 한글 외 문자는 소문자로 그대로 유지합니다.
+	 */
+	public static String decompose(String text) {
+		StringBuilder sb = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) continue;
+			if (isSyllable(c)) {
+				int offset = c - SYLLABLE_BEGIN;
+				sb.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+				sb.append(JUNGSEONG[(offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT]);
+				sb.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+			} else if (isJamo(c)) {
+				sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+			} else {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+}
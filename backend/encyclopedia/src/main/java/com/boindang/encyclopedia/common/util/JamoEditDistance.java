@@ -0,0 +1,114 @@
+package com.boindang.encyclopedia.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 자모 시퀀스 간 가중 편집 거리
+ *
+ * - {@link HangulUtils#decompose(String)}로 분해한 문자열을 비교합니다. (한 글자의 자모 하나만 틀려도 1~2점)
+ * - 치환: 두벌식 자판에서 인접한 키(또는 Shift 차이)면 1, 그 외 2 / 삽입·삭제: 2
+ * - 가중치가 삼각 부등식을 만족하므로 BK-트리의 거리 함수로 사용할 수 있습니다.
+ * - 영문 소문자는 같은 QWERTY 자리를 공유하므로 같은 규칙이 적용됩니다.
+ */
+public final class JamoEditDistance {
+
+	public static final int ADJACENT_SUBSTITUTION_COST = 1;
+	public static final int SUBSTITUTION_COST = 2;
+	public static final int INSERTION_DELETION_COST = 2;
+
+	// 두벌식 자판 배열 (QWERTY 자리 기준, 아래 행으로 갈수록 한 칸씩 밀림)
+	private static final String[][] ROWS = {
+		{"ㅂㅈㄷㄱㅅㅛㅕㅑㅐㅔ", "qwertyuiop"},
+		{"ㅁㄴㅇㄹㅎㅗㅓㅏㅣ", "asdfghjkl"},
+		{"ㅋㅌㅊㅍㅠㅜㅡ", "zxcvbnm"}
+	};
+	// Shift 입력 자모는 기본 자모와 같은 키
+	private static final String SHIFTED = "ㅃㅉㄸㄲㅆㅒㅖ";
+	private static final String SHIFTED_BASE = "ㅂㅈㄷㄱㅅㅐㅔ";
+
+	private static final int NO_KEY = -1;
+	private static final int[] KEY_POSITION = new int[0x3164]; // 'ㅣ'(0x3163) 까지
+
+	static {
+		Arrays.fill(KEY_POSITION, NO_KEY);
+		for (int row = 0; row < ROWS.length; row++) {
+			for (String keys : ROWS[row]) {
+				for (int col = 0; col < keys.length(); col++) {
+					KEY_POSITION[keys.charAt(col)] = row * 16 + col;
+				}
+			}
+		}
+		for (int i = 0; i < SHIFTED.length(); i++) {
+			KEY_POSITION[SHIFTED.charAt(i)] = KEY_POSITION[SHIFTED_BASE.charAt(i)];
+		}
+	}
+
+	private JamoEditDistance() {
+	}
+
+	public static int distance(String a, String b) {
+		return distance(a, b, Integer.MAX_VALUE - 1);
+	}
+
+	/**
+	 * 가중 편집 거리 계산
+	 *
+	 * @param limit 이 값을 넘는 것이 확실해지면 계산을 멈추고 limit + 1 을 반환
+	 */
+	public static int distance(String a, String b, int limit) {
+		if (Math.abs(a.length() - b.length()) * INSERTION_DELETION_COST > limit) {
+			return limit + 1;
+		}
+
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j * INSERTION_DELETION_COST;
+		}
+
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i * INSERTION_DELETION_COST;
+			int rowMin = current[0];
+			char ca = a.charAt(i - 1);
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = previous[j - 1] + substitutionCost(ca, b.charAt(j - 1));
+				cost = Math.min(cost, previous[j] + INSERTION_DELETION_COST);
+				cost = Math.min(cost, current[j - 1] + INSERTION_DELETION_COST);
+				current[j] = cost;
+				rowMin = Math.min(rowMin, cost);
+			}
+			if (rowMin > limit) {
+				return limit + 1;
+			}
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+		return Math.min(previous[b.length()], limit + 1);
+	}
+
+	public static int substitutionCost(char a, char b) {
+		if (a == b) return 0;
+		return isAdjacent(a, b) ? ADJACENT_SUBSTITUTION_COST : SUBSTITUTION_COST;
+	}
+
+	/** 같은 키(Shift 차이)이거나 자판에서 맞닿은 키인지 */
+	static boolean isAdjacent(char a, char b) {
+		int pa = position(a);
+		int pb = position(b);
+		if (pa == NO_KEY || pb == NO_KEY) return false;
+		if (pa == pb) return true;
+
+		int rowA = pa / 16, colA = pa % 16;
+		int rowB = pb / 16, colB = pb % 16;
+		if (rowA == rowB) return Math.abs(colA - colB) == 1;
+		// 아래 행은 반 칸씩 오른쪽으로 밀려 있어 (r, c) 는 (r+1, c-1), (r+1, c) 와 맞닿음
+		if (rowB == rowA + 1) return colB == colA || colB == colA - 1;
+		if (rowA == rowB + 1) return colA == colB || colA == colB - 1;
+		return false;
+	}
+
+	private static int position(char c) {
+		return c < KEY_POSITION.length ? KEY_POSITION[c] : NO_KEY;
+	}
+}
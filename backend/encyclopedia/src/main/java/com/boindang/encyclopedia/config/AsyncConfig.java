@@ -0,0 +1,42 @@
+package com.boindang.encyclopedia.config;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+	// 사용자 Executor 빈이 있으면 Boot 기본 applicationTaskExecutor 가 생성되지 않으므로 같은 이름/설정(spring.task.execution.*)으로 직접 등록
+	@Primary
+	@Bean(name = "applicationTaskExecutor")
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	// 리포트 생성 시 reports / ingredients 인덱스를 동시에 조회하기 위한 전용 스레드 풀 (@Qualifier 로만 주입)
+	// - 초기화는 컨테이너의 InitializingBean 콜백에 맡김
+	@Bean
+	public ThreadPoolTaskExecutor reportLookupExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder
+			.corePoolSize(8)
+			.maxPoolSize(16)
+			.queueCapacity(200)
+			.threadNamePrefix("report-lookup-")
+			.awaitTermination(true)
+			.build();
+	}
+
+	// 재색인 전용 단일 스레드 (동시 실행은 IngredientReindexService 에서 막으므로 대기열 없음)
+	@Bean
+	public ThreadPoolTaskExecutor reindexExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder
+			.corePoolSize(1)
+			.maxPoolSize(1)
+			.queueCapacity(0)
+			.threadNamePrefix("ingredient-reindex-")
+			.build();
+	}
+}
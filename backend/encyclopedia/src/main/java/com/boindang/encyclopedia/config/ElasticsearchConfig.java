@@ -1,6 +1,10 @@
 package com.boindang.encyclopedia.config;
 
 import org.apache.http.HttpHost;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,16 +21,55 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class ElasticsearchConfig {
 
     @Value("${spring.elasticsearch.uris}")
     private String elasticsearchUrl;
 
+    // RestClientBuilder 기본값과 같은 커넥션 풀 크기
+    private static final int MAX_CONNECTIONS_TOTAL = 30;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+
+    /**
+     * 검색용 HLRC 클라이언트
+     *
+     * - 커넥션 풀을 직접 만들어 사용 중/대기/유휴 커넥션 수를 메트릭(encyclopedia.es.client.connections)으로 노출합니다.
+     *   pending 이 계속 0보다 크면 풀 크기가 부족하다는 신호입니다.
+     */
     @Bean
-    public RestHighLevelClient restHighLevelClient() {
+    public RestHighLevelClient restHighLevelClient(MeterRegistry meterRegistry) throws IOReactorException {
         HttpHost httpHost = HttpHost.create(elasticsearchUrl);
-        return new RestHighLevelClient(RestClient.builder(httpHost));
+
+        PoolingNHttpClientConnectionManager connectionManager =
+            new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT));
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        registerPoolGauges(meterRegistry, connectionManager);
+
+        return new RestHighLevelClient(RestClient.builder(httpHost)
+            .setHttpClientConfigCallback(builder -> builder.setConnectionManager(connectionManager)));
+    }
+
+    private static void registerPoolGauges(MeterRegistry meterRegistry, PoolingNHttpClientConnectionManager pool) {
+        Gauge.builder("encyclopedia.es.client.connections", pool, p -> p.getTotalStats().getLeased())
+            .description("ES 클라이언트 커넥션 수")
+            .tag("state", "leased")
+            .register(meterRegistry);
+        Gauge.builder("encyclopedia.es.client.connections", pool, p -> p.getTotalStats().getPending())
+            .description("ES 클라이언트 커넥션 수")
+            .tag("state", "pending")
+            .register(meterRegistry);
+        Gauge.builder("encyclopedia.es.client.connections", pool, p -> p.getTotalStats().getAvailable())
+            .description("ES 클라이언트 커넥션 수")
+            .tag("state", "available")
+            .register(meterRegistry);
+        Gauge.builder("encyclopedia.es.client.connections.max", pool, p -> p.getTotalStats().getMax())
+            .description("ES 클라이언트 커넥션 풀 최대 크기")
+            .register(meterRegistry);
     }
 
     @Bean
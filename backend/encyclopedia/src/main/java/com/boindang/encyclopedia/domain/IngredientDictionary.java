@@ -1,5 +1,6 @@
 package com.boindang.encyclopedia.domain;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -60,6 +61,17 @@ public class IngredientDictionary {
 
         @JsonValue
         private final String label;
+
+        // 원본 JSON(encyclopedia_json)은 이름("CAUTION"), API 응답은 라벨("주의")을 사용하므로 둘 다 허용
+        @JsonCreator
+        public static RiskLevel from(String value) {
+            for (RiskLevel level : values()) {
+                if (level.name().equalsIgnoreCase(value) || level.label.equals(value)) {
+                    return level;
+                }
+            }
+            return null;
+        }
     }
 
     @Getter
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "popular_ingredient_backup")
+@Table(name = "popular_ingredient_backup", indexes = {
+    // 날짜별 상위 N개 fallback 조회(WHERE backup_date = ? ORDER BY score DESC)를 인덱스 범위 스캔으로 처리
+    @Index(name = "idx_popular_backup_date_score", columnList = "backup_date, score")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,33 @@
+package com.boindang.encyclopedia.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 성분 리포트 사용자 유형
+ *
+ * - 요청 값은 대소문자를 구분하지 않습니다. (예: "kidneyPatient", "KIDNEYPATIENT")
+ * - 알 수 없는 값은 null 로 처리해 성분 기본 위험도/기본 메시지를 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserType {
+	DIABETIC("diabetic"),
+	KIDNEY_PATIENT("kidneypatient"),
+	DIETER("dieter"),
+	MUSCLE_BUILDER("musclebuilder");
+
+	private static final UserType[] VALUES = values();
+
+	private final String key;
+
+	public static UserType from(String value) {
+		if (value == null) return null;
+		for (UserType type : VALUES) {
+			if (type.key.equalsIgnoreCase(value)) {
+				return type;
+			}
+		}
+		return null;
+	}
+}
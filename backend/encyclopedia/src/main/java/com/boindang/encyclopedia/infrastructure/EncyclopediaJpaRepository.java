@@ -1,15 +1,48 @@
 package com.boindang.encyclopedia.infrastructure;
 
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.boindang.encyclopedia.domain.Encyclopedia;
-import com.boindang.encyclopedia.domain.Ingredient;
+
+/**
+ * encyclopedia_json 조회 리포지토리
+ *
+ * - 검색용 native 쿼리는 생성 컬럼/인덱스(data/encyclopedia_db_search_indexes.sql)를 사용하며,
+ *   JSON 원본 대신 필요한 컬럼만 projection 으로 읽습니다.
+ */
 @Repository
 public interface EncyclopediaJpaRepository extends JpaRepository<Encyclopedia, Long> {
 	List<Encyclopedia> findByNameContaining(String query);
-}
 
+	String SEARCH_COLUMNS = """
+		e.id AS id, e.name AS name, e.eng_name AS engName, e.ingredient_type AS type,
+		COALESCE(e.risk_level, JSON_VALUE(e.data, '$.riskLevel')) AS riskLevel
+		""";
+
+	// name 인덱스 범위 스캔 (LIKE 'q%')
+	@Query(value = "SELECT " + SEARCH_COLUMNS + " FROM encyclopedia_json e "
+		+ "WHERE e.name LIKE CONCAT(:prefix, '%') ORDER BY e.name LIMIT :limit", nativeQuery = true)
+	List<IngredientSearchRow> searchByNamePrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+
+	// ngram FULLTEXT 구문 검색: 검색어가 연속으로 포함된 이름
+	@Query(value = "SELECT " + SEARCH_COLUMNS + " FROM encyclopedia_json e "
+		+ "WHERE MATCH(e.name) AGAINST (:phrase IN BOOLEAN MODE) ORDER BY e.name LIMIT :limit", nativeQuery = true)
+	List<IngredientSearchRow> searchByNamePhrase(@Param("phrase") String phrase, @Param("limit") int limit);
+
+	// ngram FULLTEXT 자연어 검색: 공유하는 2-gram 이 많은 순 (오타 대응)
+	@Query(value = "SELECT " + SEARCH_COLUMNS + ", MATCH(e.name) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score "
+		+ "FROM encyclopedia_json e WHERE MATCH(e.name) AGAINST (:query IN NATURAL LANGUAGE MODE) "
+		+ "ORDER BY score DESC LIMIT :limit", nativeQuery = true)
+	List<IngredientSearchRow> searchByNameSimilarity(@Param("query") String query, @Param("limit") int limit);
+
+	// (category, name|gi|sweetness) 복합 인덱스 순서대로 조회, 정렬은 pageable 의 Sort 로 지정
+	@Query(value = "SELECT " + SEARCH_COLUMNS + " FROM encyclopedia_json e WHERE e.category = :category",
+		nativeQuery = true)
+	List<IngredientSearchRow> findByCategory(@Param("category") String category, Pageable pageable);
+}
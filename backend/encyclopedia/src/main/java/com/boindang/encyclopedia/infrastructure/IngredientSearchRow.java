@@ -0,0 +1,16 @@
+package com.boindang.encyclopedia.infrastructure;
+
+/**
+ * encyclopedia_json 검색용 projection (JSON 원본 컬럼을 읽지 않음)
+ */
+public interface IngredientSearchRow {
+	String getId();
+
+	String getName();
+
+	String getEngName();
+
+	String getType();
+
+	String getRiskLevel();
+}
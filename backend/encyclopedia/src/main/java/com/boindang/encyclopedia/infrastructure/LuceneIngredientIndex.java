@@ -0,0 +1,264 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.WildcardQuery;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+import com.boindang.encyclopedia.application.event.IngredientCatalogRefreshedEvent;
+import com.boindang.encyclopedia.common.exception.ElasticSearchException;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Elasticsearch 장애 대비용 내장 Lucene 인덱스
+ *
+ * - ingredients 인덱스 스냅샷(카탈로그 갱신 이벤트)으로 로컬 디스크(MMapDirectory)에 인덱스를 다시 만듭니다.
+ * - 디스크에 남아 있는 인덱스는 기동 시 바로 열리므로, ES 없이 기동해도 마지막 스냅샷으로 검색할 수 있습니다.
+ * - ES 매핑과 같은 방식으로 분석합니다: name_prefix 는 edge_ngram(1~20), name 은 standard 분석 후 fuzzy(최대 2글자) 검색.
+ */
+@Slf4j
+@Component
+public class LuceneIngredientIndex implements IngredientSearchBackend {
+
+	public static final String BACKEND_NAME = "lucene";
+
+	private static final int PREFIX_LIMIT = PREFIX_CANDIDATE_LIMIT;
+	private static final int CONTAINING_LIMIT = 100;
+
+	private static final String FIELD_ID = "id";
+	private static final String FIELD_NAME = "name";
+	private static final String FIELD_NAME_PREFIX = "name_prefix";
+	private static final String FIELD_NAME_RAW = "name_raw";
+	private static final String FIELD_ENG_NAME = "engName";
+	private static final String FIELD_TYPE = "type";
+	private static final String FIELD_RISK_LEVEL = "riskLevel";
+
+	private final Path indexPath;
+	private final Analyzer queryAnalyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+	private final Analyzer indexAnalyzer = new PerFieldAnalyzerWrapper(queryAnalyzer,
+		Map.of(FIELD_NAME_PREFIX, edgeNGramAnalyzer()));
+
+	private MMapDirectory directory;
+	private volatile SearcherManager searcherManager;
+
+	public LuceneIngredientIndex(@Value("${encyclopedia.lucene.path:${java.io.tmpdir}/boindang-ingredients}") String indexPath) {
+		this.indexPath = Path.of(indexPath);
+	}
+
+	@PostConstruct
+	public void open() throws IOException {
+		Files.createDirectories(indexPath);
+		this.directory = new MMapDirectory(indexPath);
+		if (DirectoryReader.indexExists(directory)) {
+			this.searcherManager = new SearcherManager(directory, null);
+			log.info("✅ 로컬 Lucene 인덱스 열기 완료 - path={}", indexPath);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		if (searcherManager != null) searcherManager.close();
+		if (directory != null) directory.close();
+	}
+
+	@EventListener
+	public void onCatalogRefreshed(IngredientCatalogRefreshedEvent event) {
+		try {
+			rebuild(event.ingredients());
+			log.info("✅ 로컬 Lucene 인덱스 갱신 완료 - generation={}, size={}", event.generation(), event.ingredients().size());
+		} catch (IOException e) {
+			// 기존 인덱스(있다면)를 그대로 사용
+			log.error("❌ 로컬 Lucene 인덱스 갱신 실패 - message={}", e.getMessage(), e);
+		}
+	}
+
+	public synchronized void rebuild(List<IngredientDictionary> ingredients) throws IOException {
+		IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer)
+			.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+		try (IndexWriter writer = new IndexWriter(directory, config)) {
+			for (IngredientDictionary ingredient : ingredients) {
+				writer.addDocument(toDocument(ingredient));
+			}
+			writer.commit();
+		}
+
+		if (searcherManager == null) {
+			this.searcherManager = new SearcherManager(directory, null);
+		} else {
+			searcherManager.maybeRefreshBlocking();
+		}
+	}
+
+	@Override
+	public String name() {
+		return BACKEND_NAME;
+	}
+
+	@Override
+	public boolean isReady() {
+		return searcherManager != null;
+	}
+
+	@Override
+	public List<EncyclopediaSearchResponse> searchContaining(String query) {
+		String pattern = "*" + escapeWildcard(query.toLowerCase(Locale.ROOT)) + "*";
+		return search(new WildcardQuery(new Term(FIELD_NAME_RAW, pattern)), CONTAINING_LIMIT);
+	}
+
+	@Override
+	public CombinedSearchResult searchWithFuzzyFallback(String query) {
+		List<String> tokens = tokenize(query);
+		if (tokens.isEmpty()) {
+			return new CombinedSearchResult(Collections.emptyList(), null);
+		}
+
+		// 1. match_phrase_prefix 대응: 모든 토큰이 어떤 단어의 접두어(edge_ngram)와 일치
+		BooleanQuery.Builder prefix = new BooleanQuery.Builder();
+		tokens.forEach(token -> prefix.add(new TermQuery(new Term(FIELD_NAME_PREFIX, token)), BooleanClause.Occur.MUST));
+		List<EncyclopediaSearchResponse> prefixResults = search(prefix.build(), PREFIX_LIMIT);
+		if (!prefixResults.isEmpty()) {
+			return new CombinedSearchResult(prefixResults, null);
+		}
+
+		// 2. match + fuzziness(2) 대응: 토큰별 fuzzy 검색 중 가장 점수가 높은 결과 1개
+		BooleanQuery.Builder fuzzy = new BooleanQuery.Builder();
+		tokens.forEach(token -> fuzzy.add(new FuzzyQuery(new Term(FIELD_NAME, token), 2, 0, 50, true),
+			BooleanClause.Occur.SHOULD));
+		List<EncyclopediaSearchResponse> fuzzyResults = search(fuzzy.build(), 1);
+		return new CombinedSearchResult(Collections.emptyList(), fuzzyResults.isEmpty() ? null : fuzzyResults.get(0));
+	}
+
+	private List<EncyclopediaSearchResponse> search(Query query, int limit) {
+		SearcherManager manager = searcherManager;
+		if (manager == null) {
+			throw new ElasticSearchException("로컬 검색 인덱스가 아직 준비되지 않았습니다.");
+		}
+
+		IndexSearcher searcher = null;
+		try {
+			searcher = manager.acquire();
+			List<EncyclopediaSearchResponse> results = new ArrayList<>();
+			for (ScoreDoc scoreDoc : searcher.search(query, limit).scoreDocs) {
+				results.add(toResponse(searcher.doc(scoreDoc.doc)));
+			}
+			return results;
+		} catch (IOException e) {
+			log.error("❌ 로컬 Lucene 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		} finally {
+			releaseQuietly(manager, searcher);
+		}
+	}
+
+	private List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		try (TokenStream stream = queryAnalyzer.tokenStream(FIELD_NAME, text)) {
+			CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+			stream.reset();
+			while (stream.incrementToken()) {
+				tokens.add(term.toString());
+			}
+			stream.end();
+		} catch (IOException e) {
+			throw new ElasticSearchException("검색어 분석 중 오류가 발생했습니다.");
+		}
+		return tokens;
+	}
+
+	private static Document toDocument(IngredientDictionary ingredient) {
+		EncyclopediaSearchResponse summary = EncyclopediaSearchResponse.from(ingredient);
+		Document doc = new Document();
+		doc.add(new StringField(FIELD_ID, summary.getId(), Field.Store.YES));
+		doc.add(new TextField(FIELD_NAME, summary.getName(), Field.Store.YES));
+		doc.add(new TextField(FIELD_NAME_PREFIX, summary.getName(), Field.Store.NO));
+		doc.add(new StringField(FIELD_NAME_RAW, summary.getName().toLowerCase(Locale.ROOT), Field.Store.NO));
+		if (summary.getEngName() != null) doc.add(new StoredField(FIELD_ENG_NAME, summary.getEngName()));
+		if (summary.getType() != null) doc.add(new StoredField(FIELD_TYPE, summary.getType()));
+		doc.add(new StoredField(FIELD_RISK_LEVEL, summary.getRiskLevel()));
+		return doc;
+	}
+
+	private static EncyclopediaSearchResponse toResponse(Document doc) {
+		return EncyclopediaSearchResponse.builder()
+			.id(doc.get(FIELD_ID))
+			.name(doc.get(FIELD_NAME))
+			.engName(doc.get(FIELD_ENG_NAME))
+			.type(doc.get(FIELD_TYPE))
+			.riskLevel(doc.get(FIELD_RISK_LEVEL))
+			.build();
+	}
+
+	// ES autocomplete analyzer 와 같은 구성: standard tokenizer → lowercase → edge_ngram(1~20)
+	private static Analyzer edgeNGramAnalyzer() {
+		return new Analyzer() {
+			@Override
+			protected TokenStreamComponents createComponents(String fieldName) {
+				Tokenizer source = new StandardTokenizer();
+				TokenStream stream = new LowerCaseFilter(source);
+				stream = new EdgeNGramTokenFilter(stream, 1, 20, true);
+				return new TokenStreamComponents(source, stream);
+			}
+		};
+	}
+
+	private static String escapeWildcard(String value) {
+		StringBuilder sb = new StringBuilder(value.length());
+		for (char c : value.toCharArray()) {
+			if (c == '*' || c == '?' || c == '\\') sb.append('\\');
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	private static void releaseQuietly(SearcherManager manager, IndexSearcher searcher) {
+		if (searcher == null) return;
+		try {
+			manager.release(searcher);
+		} catch (IOException e) {
+			log.warn("❗ Lucene searcher 반환 실패 - message={}", e.getMessage());
+		}
+	}
+}
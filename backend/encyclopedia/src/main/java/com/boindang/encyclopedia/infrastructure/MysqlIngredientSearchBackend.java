@@ -0,0 +1,118 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+import com.boindang.encyclopedia.common.exception.ElasticSearchException;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * encyclopedia_json(MySQL) 인덱스 기반 검색 백엔드
+ *
+ * - Elasticsearch 와 같은 인터페이스로 동작하므로 encyclopedia.search.backend=mysql 로 바꿔 같은 조건에서 비교할 수 있습니다.
+ * - prefix: name 인덱스 범위 스캔, 포함 검색: ngram FULLTEXT 구문 검색, 오타 대응: ngram FULLTEXT 자연어 검색
+ * - ngram 토큰 크기(2)보다 짧은 검색어는 FULLTEXT 로 찾을 수 없으므로 prefix 검색으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MysqlIngredientSearchBackend implements IngredientSearchBackend {
+
+	public static final String BACKEND_NAME = "mysql";
+
+	private static final int NGRAM_TOKEN_SIZE = 2;
+	private static final int PREFIX_LIMIT = PREFIX_CANDIDATE_LIMIT;
+	private static final int CONTAINING_LIMIT = 100;
+
+	private final EncyclopediaJpaRepository encyclopediaJpaRepository;
+
+	@Override
+	public String name() {
+		return BACKEND_NAME;
+	}
+
+	@Override
+	public List<EncyclopediaSearchResponse> searchContaining(String query) {
+		try {
+			List<IngredientSearchRow> rows = query.length() < NGRAM_TOKEN_SIZE
+				? encyclopediaJpaRepository.searchByNamePrefix(escapeLike(query), CONTAINING_LIMIT)
+				: encyclopediaJpaRepository.searchByNamePhrase(phrase(query), CONTAINING_LIMIT);
+			return rows.stream().map(MysqlIngredientSearchBackend::toResponse).toList();
+		} catch (Exception e) {
+			log.error("❌ MySQL 포함 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("성분 검색 중 오류가 발생했습니다.");
+		}
+	}
+
+	@Override
+	public CombinedSearchResult searchWithFuzzyFallback(String query) {
+		try {
+			List<EncyclopediaSearchResponse> prefixResults = encyclopediaJpaRepository
+				.searchByNamePrefix(escapeLike(query), PREFIX_LIMIT)
+				.stream()
+				.map(MysqlIngredientSearchBackend::toResponse)
+				.toList();
+			if (!prefixResults.isEmpty() || query.length() < NGRAM_TOKEN_SIZE) {
+				return new CombinedSearchResult(prefixResults, null);
+			}
+
+			EncyclopediaSearchResponse fuzzy = encyclopediaJpaRepository.searchByNameSimilarity(query, 1)
+				.stream()
+				.findFirst()
+				.map(MysqlIngredientSearchBackend::toResponse)
+				.orElse(null);
+			return new CombinedSearchResult(Collections.emptyList(), fuzzy);
+		} catch (Exception e) {
+			log.error("❌ MySQL 자동완성 검색 실패 - query={}, message={}", query, e.getMessage(), e);
+			throw new ElasticSearchException("자동완성 검색 중 오류가 발생했습니다.");
+		}
+	}
+
+	/**
+	 * 카테고리별 성분 목록 (ES /category 와 같은 정렬 규칙)
+	 */
+	public List<EncyclopediaSearchResponse> findByCategory(String category, String sort, String order, int size, int page) {
+		Sort sortBy;
+		if (sort == null || sort.equals("name")) {
+			sortBy = Sort.by("desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC, "name");
+		} else {
+			String column = sort.equals("gi") ? "gi" : "sweetness";
+			sortBy = Sort.by("asc".equalsIgnoreCase(order) ? Sort.Direction.ASC : Sort.Direction.DESC, column)
+				.and(Sort.by("name"));
+		}
+
+		return encyclopediaJpaRepository.findByCategory(category, PageRequest.of(page, size, sortBy))
+			.stream()
+			.map(MysqlIngredientSearchBackend::toResponse)
+			.toList();
+	}
+
+	private static EncyclopediaSearchResponse toResponse(IngredientSearchRow row) {
+		IngredientDictionary.RiskLevel riskLevel = IngredientDictionary.RiskLevel.from(row.getRiskLevel());
+		return EncyclopediaSearchResponse.builder()
+			.id(row.getId())
+			.name(row.getName())
+			.engName(row.getEngName())
+			.type(row.getType())
+			.riskLevel(riskLevel != null ? riskLevel.getLabel() : "정보 없음")
+			.build();
+	}
+
+	// BOOLEAN MODE 구문 검색: 큰따옴표로 감싸 연속된 ngram 으로 일치
+	private static String phrase(String query) {
+		return "\"" + query.replace("\"", " ") + "\"";
+	}
+
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
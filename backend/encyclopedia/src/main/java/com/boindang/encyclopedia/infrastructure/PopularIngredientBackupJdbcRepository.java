@@ -0,0 +1,39 @@
+package com.boindang.encyclopedia.infrastructure;
+
+import java.sql.Date;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.boindang.encyclopedia.domain.PopularIngredientBackup;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 성분 백업 대량 저장용 JDBC 리포지토리
+ *
+ * - IDENTITY 전략 엔티티는 JPA 배치 insert가 동작하지 않으므로 JdbcTemplate batchUpdate로 묶어서 저장합니다.
+ * - MySQL 드라이버의 rewriteBatchedStatements 옵션과 함께 사용하면 multi-row insert로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopularIngredientBackupJdbcRepository {
+
+	private static final String INSERT_SQL =
+		"INSERT INTO popular_ingredient_backup (ingredient_id, ingredient_name, score, backup_date) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void batchInsert(List<PopularIngredientBackup> backups) {
+		if (backups.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, backups, backups.size(), (ps, backup) -> {
+			ps.setString(1, backup.getIngredientId());
+			ps.setString(2, backup.getIngredientName());
+			ps.setLong(3, backup.getScore());
+			ps.setDate(4, Date.valueOf(backup.getBackupDate()));
+		});
+	}
+}
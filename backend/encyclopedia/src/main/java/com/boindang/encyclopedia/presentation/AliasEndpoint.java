@@ -0,0 +1,40 @@
+package com.boindang.encyclopedia.presentation;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.IngredientAliasDictionary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 학습한 원재료 별칭 검토용 actuator 엔드포인트
+ *
+ * - 서비스 포트가 아닌 관리 포트(management.server.port)로만 노출되므로 게이트웨이를 통해 호출할 수 없습니다.
+ * - GET /actuator/aliases: 만료되지 않은 학습 별칭 목록 (별칭 → 성분 ID, 만료 시각)
+ * - DELETE /actuator/aliases/{alias}: 잘못 학습한 별칭 삭제 → 204, 학습한 별칭이 없으면 404
+ */
+@Component
+@Endpoint(id = "aliases")
+@RequiredArgsConstructor
+public class AliasEndpoint {
+
+	private final IngredientAliasDictionary aliasDictionary;
+
+	@ReadOperation
+	public Map<String, IngredientAliasDictionary.LearnedAlias> learned() {
+		return aliasDictionary.learnedAliases();
+	}
+
+	@DeleteOperation
+	public WebEndpointResponse<Void> forget(@Selector String alias) {
+		boolean removed = aliasDictionary.forget(alias);
+		return new WebEndpointResponse<>(removed ? WebEndpointResponse.STATUS_NO_CONTENT : WebEndpointResponse.STATUS_NOT_FOUND);
+	}
+}
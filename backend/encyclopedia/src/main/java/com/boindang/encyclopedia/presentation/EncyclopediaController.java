@@ -51,9 +51,11 @@ public class EncyclopediaController implements EncyclopediaApi {
         @RequestParam(required = false) String sort,
         @RequestParam(defaultValue = "asc") String order,
         @RequestParam(defaultValue = "15") int size,
-        @RequestParam(defaultValue = "0") int page
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Boolean trackTotal
     ) {
-        return ApiResponses.success(encyclopediaService.getIngredientsByType(category, sort, order, size, page));
+        return ApiResponses.success(encyclopediaService.getIngredientsByType(category, sort, order, size, page, cursor, trackTotal));
     }
 
 }
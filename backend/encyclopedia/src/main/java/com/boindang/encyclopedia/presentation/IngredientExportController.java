@@ -0,0 +1,85 @@
+package com.boindang.encyclopedia.presentation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boindang.encyclopedia.application.IngredientExportSnapshot;
+import com.boindang.encyclopedia.common.response.ApiResponses;
+import com.boindang.encyclopedia.presentation.dto.response.IngredientDeltaResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/export")
+@RequiredArgsConstructor
+public class IngredientExportController {
+
+	private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+	private static final String VERSION_HEADER = "X-Dictionary-Version";
+
+	private final IngredientExportSnapshot exportSnapshot;
+
+	@Operation(summary = "전체 성분 사전 export (오프라인 검색용)",
+		description = "성분 요약(id, name, engName, type, riskLevel)을 한 줄에 하나씩 gzip NDJSON 으로 내려줍니다. "
+			+ "ETag/If-None-Match 로 재검증하며, 응답 헤더 " + VERSION_HEADER + " 값을 delta 조회의 since 로 사용합니다.")
+	@GetMapping("/ingredients")
+	public ResponseEntity<byte[]> exportIngredients(
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		IngredientExportSnapshot.Export export = exportSnapshot.current();
+		if (!export.isReady()) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+		}
+
+		if (export.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(export.etag())
+				.header(VERSION_HEADER, String.valueOf(export.generation()))
+				.build();
+		}
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.eTag(export.etag())
+			.cacheControl(CacheControl.noCache())
+			.header(VERSION_HEADER, String.valueOf(export.generation()))
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		// 미리 압축해 둔 바이트를 그대로 사용하고, gzip 을 받지 못하는 클라이언트에만 풀어서 내려줌
+		if (acceptEncoding == null || !acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+			return builder.contentType(NDJSON).body(gunzip(export.gzipped()));
+		}
+		return builder.contentType(NDJSON)
+			.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+			.body(export.gzipped());
+	}
+
+	@Operation(summary = "성분 사전 변경분 조회",
+		description = "since 버전 이후 추가/변경/삭제된 성분만 내려줍니다. 보관 중인 이력보다 오래된 버전이면 fullReloadRequired=true 입니다.")
+	@GetMapping("/ingredients/delta")
+	public ApiResponses<IngredientDeltaResponse> exportDelta(@RequestParam long since) {
+		return ApiResponses.success(exportSnapshot.delta(since));
+	}
+
+	private static byte[] gunzip(byte[] gzipped) {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
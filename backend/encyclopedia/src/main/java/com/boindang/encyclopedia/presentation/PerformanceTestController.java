@@ -7,7 +7,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
 import com.boindang.encyclopedia.infrastructure.EncyclopediaJpaRepository;
+import com.boindang.encyclopedia.infrastructure.MysqlIngredientSearchBackend;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
 import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchTestResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,6 +24,8 @@ import lombok.extern.slf4j.Slf4j;
 public class PerformanceTestController {
 
 	private final EncyclopediaJpaRepository encyclopediaRepository;
+	private final MysqlIngredientSearchBackend mysqlSearchBackend;
+
 	@Operation(summary = "Elasticsearch 성능 조회 테스트용 API (with MySQL)", description = "Elasticsearch vs MySQL 과연.. 승자는??")
 	@GetMapping("/search/mysql")
 	public List<EncyclopediaSearchTestResponse> searchMysql(@RequestParam String query) {
@@ -30,4 +35,28 @@ public class PerformanceTestController {
 			.toList();
 	}
 
+	@Operation(summary = "MySQL 인덱스 기반 검색 (생성 컬럼 + ngram FULLTEXT)", description = "ES 와 같은 검색 인터페이스로 MySQL 인덱스를 사용해 조회합니다.")
+	@GetMapping("/search/mysql/indexed")
+	public List<EncyclopediaSearchResponse> searchMysqlIndexed(@RequestParam String query,
+		@RequestParam(defaultValue = "true") boolean suggested) {
+		if (!suggested) {
+			return mysqlSearchBackend.searchContaining(query);
+		}
+		IngredientSearchBackend.CombinedSearchResult result = mysqlSearchBackend.searchWithFuzzyFallback(query);
+		if (!result.prefixResults().isEmpty() || result.fuzzyResult() == null) {
+			return result.prefixResults();
+		}
+		return List.of(result.fuzzyResult());
+	}
+
+	@Operation(summary = "MySQL 카테고리별 성분 조회", description = "(category, 정렬 컬럼) 복합 인덱스를 사용하는 /category 비교용 API")
+	@GetMapping("/category/mysql")
+	public List<EncyclopediaSearchResponse> categoryMysql(@RequestParam String category,
+		@RequestParam(required = false) String sort,
+		@RequestParam(defaultValue = "asc") String order,
+		@RequestParam(defaultValue = "15") int size,
+		@RequestParam(defaultValue = "0") int page) {
+		return mysqlSearchBackend.findByCategory(category, sort, order, size, page);
+	}
+
 }
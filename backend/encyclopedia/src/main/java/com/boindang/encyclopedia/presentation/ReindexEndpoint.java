@@ -0,0 +1,41 @@
+package com.boindang.encyclopedia.presentation;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.boindang.encyclopedia.application.IngredientReindexService;
+import com.boindang.encyclopedia.presentation.dto.response.ReindexJobResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 성분 재색인 (MySQL → Elasticsearch) 관리용 actuator 엔드포인트
+ *
+ * - 서비스 포트가 아닌 관리 포트(management.server.port)로만 노출되므로 게이트웨이를 통해 호출할 수 없습니다.
+ * - POST /actuator/reindex: 작업 시작 → 202 + 작업 상태, 이미 진행 중이면 409 + 진행 중인 작업
+ * - GET /actuator/reindex: 마지막 작업 상태 (실행한 적 없으면 404)
+ */
+@Component
+@Endpoint(id = "reindex")
+@RequiredArgsConstructor
+public class ReindexEndpoint {
+
+	private final IngredientReindexService reindexService;
+
+	@WriteOperation
+	public WebEndpointResponse<ReindexJobResponse> start() {
+		return reindexService.start()
+			.map(job -> new WebEndpointResponse<>(job, 202))
+			.orElseGet(() -> new WebEndpointResponse<>(reindexService.lastJob().orElse(null), 409));
+	}
+
+	@ReadOperation
+	public WebEndpointResponse<ReindexJobResponse> status() {
+		return reindexService.lastJob()
+			.map(job -> new WebEndpointResponse<>(job, WebEndpointResponse.STATUS_OK))
+			.orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+	}
+}
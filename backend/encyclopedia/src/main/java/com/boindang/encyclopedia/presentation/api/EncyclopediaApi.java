@@ -189,7 +189,7 @@ public interface EncyclopediaApi {
     com.boindang.encyclopedia.common.response.ApiResponses<EncyclopediaDetailResponse> getDetail(
             @Parameter(description = "성분 ID", required = true) @PathVariable String id);
 
-    @Operation(summary = "카테고리별 성분 조회", description = "성분 유형(감미료, 보존제 등)에 따라 필터링하고 GI 또는 감미도 정렬을 지원합니다.")
+    @Operation(summary = "카테고리별 성분 조회", description = "성분 유형(감미료, 보존제 등)에 따라 필터링하고 GI 또는 감미도 정렬을 지원합니다. cursor 를 전달하면 search_after 기반 무한 스크롤로 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성분 리스트 조회 성공", content = @Content(
                     mediaType = "application/json",
@@ -239,6 +239,8 @@ public interface EncyclopediaApi {
             @Parameter(description = "정렬 기준 (gi | sweetness)") @RequestParam(required = false) String sort,
             @Parameter(description = "정렬 방향 (asc | desc)") @RequestParam(defaultValue = "desc") String order,
             @Parameter(description = "조회 개수") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page
+            @Parameter(description = "페이지 번호 (오프셋 모드)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "search_after 커서 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "전체 개수 집계 여부 (기본: 오프셋 모드 true, 커서 모드 false)") @RequestParam(required = false) Boolean trackTotal
     );
 }
@@ -3,11 +3,13 @@ package com.boindang.encyclopedia.presentation.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class EncyclopediaDetailResponse {
 
@@ -46,12 +48,14 @@ public class EncyclopediaDetailResponse {
 
     @Getter
     @Builder
+    @NoArgsConstructor
     @AllArgsConstructor
     public static class CompareTable {
         private List<Row> rows;
 
         @Getter
         @Builder
+        @NoArgsConstructor
         @AllArgsConstructor
         public static class Row {
             private String name;
@@ -0,0 +1,11 @@
+package com.boindang.encyclopedia.presentation.dto.response;
+
+import java.util.List;
+
+public record IngredientDeltaResponse(
+	long fromVersion,                          // 클라이언트가 보낸 사전 버전
+	long version,                              // 현재 사전 버전 (적용 후 클라이언트가 저장할 값)
+	boolean fullReloadRequired,                // true 면 변경분 대신 /export/ingredients 로 전체를 다시 받아야 함
+	List<EncyclopediaSearchResponse> upserts,  // 추가/변경된 성분
+	List<String> deletedIds                    // 삭제된 성분 id
+) {}
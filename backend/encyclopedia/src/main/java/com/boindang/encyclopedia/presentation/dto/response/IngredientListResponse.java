@@ -8,6 +8,11 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class IngredientListResponse {
-	private int totalPages;
+	private int totalPages; // 전체 개수를 집계하지 않은 경우 -1
 	private List<EncyclopediaSearchResponse> ingredients;
+	private String nextCursor; // 커서 모드에서 다음 페이지 조회용 토큰 (마지막 페이지면 null)
+
+	public IngredientListResponse(int totalPages, List<EncyclopediaSearchResponse> ingredients) {
+		this(totalPages, ingredients, null);
+	}
 }
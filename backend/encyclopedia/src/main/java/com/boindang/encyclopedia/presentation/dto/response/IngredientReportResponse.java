@@ -5,9 +5,11 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
 @AllArgsConstructor
 public class IngredientReportResponse {
 	private String name;
@@ -0,0 +1,27 @@
+package com.boindang.encyclopedia.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ReindexJobResponse(
+	String jobId,
+	Status status,
+	LocalDateTime startedAt,
+	LocalDateTime finishedAt,    // 진행 중이면 null
+	ReindexResponse result,      // 성공 시 재색인 결과
+	String error                 // 실패 시 오류 메시지
+) {
+
+	public enum Status { RUNNING, SUCCEEDED, FAILED }
+
+	public static ReindexJobResponse running(String jobId) {
+		return new ReindexJobResponse(jobId, Status.RUNNING, LocalDateTime.now(), null, null, null);
+	}
+
+	public ReindexJobResponse succeeded(ReindexResponse result) {
+		return new ReindexJobResponse(jobId, Status.SUCCEEDED, startedAt, LocalDateTime.now(), result, null);
+	}
+
+	public ReindexJobResponse failed(String error) {
+		return new ReindexJobResponse(jobId, Status.FAILED, startedAt, LocalDateTime.now(), null, error);
+	}
+}
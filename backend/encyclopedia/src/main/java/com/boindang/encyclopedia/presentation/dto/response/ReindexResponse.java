@@ -0,0 +1,8 @@
+package com.boindang.encyclopedia.presentation.dto.response;
+
+public record ReindexResponse(
+	String index,        // 새로 만든 버전 인덱스
+	long documents,      // 적재한 문서 수
+	long elapsedMs,      // 전체 소요 시간
+	long generation      // 갱신된 카탈로그 세대
+) {}
@@ -3,9 +3,11 @@ package com.boindang.encyclopedia.presentation.dto.response;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class RiskIngredientSummary {
 	private String name; // 말토덱스트린
@@ -8,9 +8,11 @@ import com.boindang.encyclopedia.presentation.dto.response.RiskIngredientSummary
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class UserReportResponse {
 	private List<IngredientReportResponse> ingredients;
@@ -4,7 +4,6 @@ import com.boindang.encyclopedia.application.PopularIngredientBackupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -13,16 +12,13 @@ import org.springframework.stereotype.Component;
 @Component
 public class PopularIngredientBackupScheduler {
 
-    private final RedisTemplate<String, String> redisTemplate;
     private final PopularIngredientBackupService backupService;
-    private static final String POPULAR_INGREDIENT_KEY = "popular:ingredients";
 
     // 매일 자정 실행 (cron: 초 분 시 일 월 요일)
+    // - 일간 ZSET은 백업 서비스가 스냅샷 키로 RENAME 하면서 비우므로 여기서 DEL 하지 않음 (백업 중 새로 쌓인 집계 보존)
     @Scheduled(cron = "0 0 0 * * *")
     public void backupPopularIngredients() {
         log.info("🔁 자정 백업 작업 시작");
         backupService.backupAndClear();
-
-        redisTemplate.delete(POPULAR_INGREDIENT_KEY);
     }
 }
@@ -0,0 +1,48 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.ConstantScoreQueryBuilder;
+import org.elasticsearch.index.query.IdsQueryBuilder;
+import org.elasticsearch.index.query.MatchPhrasePrefixQueryBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+
+import com.boindang.encyclopedia.application.AutocompleteSearchService;
+import com.boindang.encyclopedia.application.IngredientPopularityScores;
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+
+@DisplayName("🔥 ES 자동완성 인기 성분 후보 쿼리 테스트")
+class AutocompletePopularityBoostTest {
+
+	private final IngredientPopularityScores popularityScores = new IngredientPopularityScores(null);
+	private final AutocompleteSearchService service = new AutocompleteSearchService(null, null, null, popularityScores);
+
+	@Test
+	void buildRequest_boostsPopularIngredientsByDocumentId() {
+		popularityScores.update(Set.of(new DefaultTypedTuple<>("acesulfame-potassium", 500.0),
+			new DefaultTypedTuple<>("maltitol", 3.0)));
+
+		SearchSourceBuilder source = service.buildRequest("아세").source();
+		BoolQueryBuilder query = assertInstanceOf(BoolQueryBuilder.class, source.query());
+		assertInstanceOf(MatchPhrasePrefixQueryBuilder.class, query.must().get(0));
+
+		ConstantScoreQueryBuilder boost = assertInstanceOf(ConstantScoreQueryBuilder.class, query.should().get(0));
+		IdsQueryBuilder ids = assertInstanceOf(IdsQueryBuilder.class, boost.innerQuery()); // _source 의 id 필드가 아닌 _id
+		assertEquals(Set.of("acesulfame-potassium", "maltitol"), ids.ids());
+		assertEquals(IngredientSearchBackend.PREFIX_CANDIDATE_LIMIT + 2, source.size());
+	}
+
+	@Test
+	void buildRequest_usesPlainPrefixQueryWithoutPopularity() {
+		SearchSourceBuilder source = service.buildRequest("아세").source();
+
+		assertInstanceOf(MatchPhrasePrefixQueryBuilder.class, source.query());
+		assertEquals(IngredientSearchBackend.PREFIX_CANDIDATE_LIMIT, source.size());
+	}
+}
@@ -0,0 +1,103 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.boindang.encyclopedia.application.AutocompleteRanker;
+import com.boindang.encyclopedia.application.ChoseongAutocompleteIndex;
+import com.boindang.encyclopedia.application.IngredientPopularityScores;
+import com.boindang.encyclopedia.application.JamoPrefixIndex;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🏆 인기도 가중 자동완성 순위 테스트")
+class AutocompleteRankerTest {
+
+	private final IngredientPopularityScores popularityScores = new IngredientPopularityScores(null);
+	private final AutocompleteRanker ranker = new AutocompleteRanker(popularityScores, 0.6);
+
+	@Test
+	void rank_prefersPopularIngredientForShortQuery() {
+		updateScores(Set.of(new DefaultTypedTuple<>("maltodextrin", 500.0), new DefaultTypedTuple<>("maltitol", 3.0)));
+
+		List<EncyclopediaSearchResponse> ranked = ranker.rank("말", List.of(
+			response("maltitol", "말티톨"),
+			response("maltodextrin", "말토덱스트린")
+		), 10);
+
+		assertEquals(List.of("말토덱스트린", "말티톨"), names(ranked));
+	}
+
+	@Test
+	void rank_exactMatchBeatsPopularityForLongQuery() {
+		updateScores(Set.of(new DefaultTypedTuple<>("maltitol-syrup", 500.0)));
+
+		List<EncyclopediaSearchResponse> ranked = ranker.rank("말티톨", List.of(
+			response("maltitol-syrup", "말티톨 시럽"),
+			response("maltitol", "말티톨")
+		), 10);
+
+		assertEquals(List.of("말티톨", "말티톨 시럽"), names(ranked));
+	}
+
+	@Test
+	void rank_keepsOriginalOrderOnTieAndAppliesLimit() {
+		updateScores(Set.of());
+
+		List<EncyclopediaSearchResponse> ranked = ranker.rank("ㅅㅋ", List.of(
+			response("a", "수크로스"),
+			response("b", "수크랄"),
+			response("c", "수크랄로스")
+		), 2);
+
+		// 초성 키 길이가 "수크랄" 쪽이 짧아 커버리지가 높고, 나머지는 원래 순서 유지
+		assertEquals(List.of("수크랄", "수크로스"), names(ranked));
+		assertTrue(ranker.rank("ㅅㅋ", List.of(response("a", "수크로스")), 0).isEmpty());
+	}
+
+	@Test
+	void rank_reachesPopularIngredientOutsideNameOrder() {
+		// 이름순으로 가장 뒤(40번째)인 성분이 가장 인기 있음
+		List<IngredientDictionary> ingredients = IntStream.rangeClosed(1, 40)
+			.mapToObj(i -> IngredientDictionary.builder()
+				.id("m" + i)
+				.name(String.format("말티톨%02d", i))
+				.riskLevel(IngredientDictionary.RiskLevel.SAFE)
+				.build())
+			.toList();
+		ChoseongAutocompleteIndex choseongIndex = new ChoseongAutocompleteIndex();
+		choseongIndex.rebuild(ingredients);
+		JamoPrefixIndex jamoPrefixIndex = new JamoPrefixIndex();
+		jamoPrefixIndex.rebuild(ingredients);
+		updateScores(Set.of(new DefaultTypedTuple<>("m40", 500.0), new DefaultTypedTuple<>("m1", 3.0)));
+
+		assertEquals("말티톨40", ranker.rank("ㅁ", choseongIndex.search("ㅁ"), 10).get(0).getName());
+		assertEquals("말티톨40", ranker.rank("말", jamoPrefixIndex.search("말"), 10).get(0).getName());
+		assertEquals(List.of("m40", "m1"), popularityScores.topIds(10));
+		assertEquals(List.of("m40"), popularityScores.topIds(1));
+	}
+
+	private void updateScores(Set<ZSetOperations.TypedTuple<String>> tuples) {
+		popularityScores.update(tuples);
+	}
+
+	private static EncyclopediaSearchResponse response(String id, String name) {
+		return EncyclopediaSearchResponse.builder()
+			.id(id)
+			.name(name)
+			.riskLevel("안심")
+			.build();
+	}
+
+	private static List<String> names(List<EncyclopediaSearchResponse> responses) {
+		return responses.stream().map(EncyclopediaSearchResponse::getName).toList();
+	}
+}
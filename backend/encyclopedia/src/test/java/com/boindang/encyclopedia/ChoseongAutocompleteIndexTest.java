@@ -0,0 +1,44 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.ChoseongAutocompleteIndex;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🔤 초성 트라이 자동완성 테스트")
+class ChoseongAutocompleteIndexTest {
+
+	private final ChoseongAutocompleteIndex index = new ChoseongAutocompleteIndex();
+
+	@Test
+	void multiConsonantQuery_resolvesToIngredient() {
+		index.rebuild(List.of(
+			ingredient("maltitol", "말티톨"),
+			ingredient("maltodextrin", "말토덱스트린"),
+			ingredient("msg", "글루타민산 나트륨(MSG)")
+		));
+
+		assertEquals(List.of("말토덱스트린", "말티톨"), names(index.search("ㅁ")));
+		assertEquals(List.of("말티톨"), names(index.search("ㅁㅌㅌ")));
+		assertEquals(List.of("글루타민산 나트륨(MSG)"), names(index.search("ㄴㅌ")));
+		assertTrue(index.search("ㅎ").isEmpty());
+	}
+
+	private static List<String> names(List<EncyclopediaSearchResponse> responses) {
+		return responses.stream().map(EncyclopediaSearchResponse::getName).toList();
+	}
+
+	private static IngredientDictionary ingredient(String id, String name) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.riskLevel(IngredientDictionary.RiskLevel.SAFE)
+			.build();
+	}
+}
@@ -0,0 +1,56 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.CompiledReport;
+import com.boindang.encyclopedia.domain.ReportDocument;
+import com.boindang.encyclopedia.domain.UserType;
+
+@DisplayName("📋 사용자 유형별 리포트 컴파일 테스트")
+class CompiledReportTest {
+
+	@Test
+	void userType_parsesCaseInsensitively() {
+		assertEquals(UserType.KIDNEY_PATIENT, UserType.from("kidneyPatient"));
+		assertEquals(UserType.MUSCLE_BUILDER, UserType.from("MUSCLEBUILDER"));
+		assertNull(UserType.from("unknown"));
+		assertNull(UserType.from(null));
+	}
+
+	@Test
+	void compile_indexesRiskScoreAndMessagesByUserType() {
+		CompiledReport report = CompiledReport.compile(ReportDocument.builder()
+			.name("말티톨")
+			.riskLevel(new ReportDocument.RiskLevel("주의", "안심", "높음", "안심"))
+			.diabeticScore(70)
+			.dieterScore(90)
+			.diabetic(List.of("혈당", "당알코올", "혈당을 천천히 올립니다."))
+			.dieter(List.of("칼로리", "당알코올", "칼로리가 있습니다."))
+			.build());
+
+		assertEquals("주의", report.riskLevel(UserType.DIABETIC, "안심"));
+		assertEquals("높음", report.riskLevel(UserType.DIETER, "안심"));
+		assertEquals(90, report.score(UserType.DIETER));
+		assertEquals(0, report.score(UserType.KIDNEY_PATIENT));
+		assertEquals("당알코올", report.messages(UserType.DIABETIC).get(1));
+		assertNull(report.messages(UserType.MUSCLE_BUILDER));
+	}
+
+	@Test
+	void compile_fallsBackToIngredientRiskForUnknownUserType() {
+		CompiledReport report = CompiledReport.compile(ReportDocument.builder().name("스테비아").build());
+
+		assertEquals("안심", report.riskLevel(null, "안심"));
+		assertEquals("정보 없음", report.riskLevel(null, null));
+		assertNull(report.riskLevel(UserType.DIABETIC, "안심"));
+		assertEquals(0, report.score(null));
+		assertEquals("정보 없음", report.messages(null).get(0));
+		assertTrue(CompiledReport.isRisky("주의"));
+		assertFalse(CompiledReport.isRisky("안심"));
+	}
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import com.boindang.encyclopedia.domain.IngredientDocument;
 import com.boindang.encyclopedia.infrastructure.IngredientElasticRepository;
 
+@Tag("benchmark")
 @SpringBootTest
 @DisplayName("Elasticsearch 성분 검색 성능 테스트")
 class ElasticSearchPerformanceTest {
@@ -33,7 +35,7 @@ class ElasticSearchPerformanceTest {
 			assertTrue(result.isPresent());
 		}
 
-		System.out.println("Elasticsearch 평균 검색시간: " + (totalTime / 100_0000.0) + "ms");
+		System.out.println("Elasticsearch 평균 검색시간: " + (totalTime / 1_000_000.0) + "ms");
 	}
 }
 
@@ -0,0 +1,86 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.IngredientAliasDictionary;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("🏷️ 원재료 별칭 사전 테스트")
+class IngredientAliasDictionaryTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final IngredientAliasDictionary dictionary = new IngredientAliasDictionary(null, meterRegistry, 100,
+		Duration.ofDays(30));
+
+	@BeforeEach
+	void setUp() {
+		long now = System.currentTimeMillis();
+		dictionary.rebuild(List.of(
+			ingredient("msg", "글루타민산 나트륨(MSG)", "Monosodium Glutamate"),
+			ingredient("stevia", "스테비아", "Stevia"),
+			ingredient("allulose", "알룰로스", "Allulose (D-Allulose, Psicose)"),
+			ingredient("lactose", "유당", "Lactose")
+		), Map.of(
+			"미원", new IngredientAliasDictionary.LearnedAlias("msg", now + 60_000),
+			"사라진별칭", new IngredientAliasDictionary.LearnedAlias("removed-id", now + 60_000),
+			"만료된별칭", new IngredientAliasDictionary.LearnedAlias("stevia", now - 1)));
+	}
+
+	@Test
+	void findId_matchesNamesAndParenthesizedVariants() {
+		assertEquals(Optional.of("msg"), dictionary.findId("MSG"));
+		assertEquals(Optional.of("msg"), dictionary.findId("글루타민산나트륨"));
+		assertEquals(Optional.of("msg"), dictionary.findId("monosodium glutamate"));
+		assertEquals(Optional.of("allulose"), dictionary.findId("psicose"));
+		assertEquals(Optional.of("lactose"), dictionary.findId("유당(우유)"));
+	}
+
+	@Test
+	void findId_usesCuratedAndLearnedAliases() {
+		assertEquals(Optional.of("stevia"), dictionary.findId("효소처리 스테비아"));
+		assertEquals(Optional.of("msg"), dictionary.findId("미원"));
+		assertTrue(dictionary.findId("사라진별칭").isEmpty()); // 카탈로그에 없는 ID 는 버림
+		assertTrue(dictionary.findId("만료된별칭").isEmpty()); // 만료된 학습 별칭은 버림
+		assertTrue(dictionary.findId("에리트리톨").isEmpty()); // 카탈로그에 없는 성분의 큐레이션 별칭
+	}
+
+	@Test
+	void forget_removesOnlyLearnedAliases() {
+		dictionary.learn("스테비아 감미료", "stevia");
+		assertEquals(Optional.of("stevia"), dictionary.findId("스테비아감미료"));
+		assertEquals(List.of("미원", "스테비아감미료"), List.copyOf(dictionary.learnedAliases().keySet()));
+
+		assertTrue(dictionary.forget("스테비아 감미료"));
+		assertTrue(dictionary.findId("스테비아감미료").isEmpty());
+		assertFalse(dictionary.forget("스테비아")); // 시드 별칭은 지우지 않음
+		assertEquals(Optional.of("stevia"), dictionary.findId("스테비아"));
+	}
+
+	@Test
+	void findId_recordsHitAndMissCounts() {
+		dictionary.findId("스테비아");
+		dictionary.findId("없는원재료");
+
+		assertEquals(1.0, meterRegistry.get("encyclopedia.alias.lookup").tag("result", "hit").counter().count());
+		assertEquals(1.0, meterRegistry.get("encyclopedia.alias.lookup").tag("result", "miss").counter().count());
+	}
+
+	private static IngredientDictionary ingredient(String id, String name, String engName) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.engName(engName)
+			.build();
+	}
+}
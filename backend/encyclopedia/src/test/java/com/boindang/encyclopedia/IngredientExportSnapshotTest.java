@@ -0,0 +1,83 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.IngredientExportSnapshot;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+import com.boindang.encyclopedia.presentation.dto.response.IngredientDeltaResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("📦 성분 사전 export 스냅샷 테스트")
+class IngredientExportSnapshotTest {
+
+	private final IngredientExportSnapshot snapshot = new IngredientExportSnapshot(new ObjectMapper(), 2);
+
+	@Test
+	void export_buildsGzippedNdjsonSortedByName() throws IOException {
+		assertFalse(snapshot.current().isReady());
+
+		snapshot.rebuild(1, List.of(ingredient("sucralose", "수크랄로스"), ingredient("maltitol", "말티톨")));
+
+		IngredientExportSnapshot.Export export = snapshot.current();
+		String[] lines = gunzip(export.gzipped()).split("\n");
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].contains("\"name\":\"말티톨\""));
+		assertFalse(lines[0].contains("engName")); // null 필드는 생략
+		assertTrue(export.etag().startsWith("\"1-"));
+		assertTrue(export.matches(export.etag()));
+		assertTrue(export.matches("W/" + export.etag()));
+		assertFalse(export.matches("\"0-0\""));
+	}
+
+	@Test
+	void delta_mergesChangesSinceClientVersion() {
+		snapshot.rebuild(1, List.of(ingredient("maltitol", "말티톨"), ingredient("sucralose", "수크랄로스")));
+		snapshot.rebuild(2, List.of(ingredient("maltitol", "말티톨"), ingredient("sucralose", "수크랄로스 (E955)"),
+			ingredient("stevia", "스테비아")));
+		snapshot.rebuild(3, List.of(ingredient("maltitol", "말티톨"), ingredient("sucralose", "수크랄로스 (E955)")));
+
+		IngredientDeltaResponse delta = snapshot.delta(1);
+		assertFalse(delta.fullReloadRequired());
+		assertEquals(3, delta.version());
+		assertEquals(List.of("수크랄로스 (E955)"), delta.upserts().stream().map(EncyclopediaSearchResponse::getName).toList());
+		assertEquals(List.of("stevia"), delta.deletedIds()); // 2세대에 추가됐다 3세대에 삭제
+
+		assertTrue(snapshot.delta(3).upserts().isEmpty());
+		assertTrue(snapshot.delta(3).deletedIds().isEmpty());
+	}
+
+	@Test
+	void delta_requiresFullReloadForUnknownOrExpiredVersion() {
+		snapshot.rebuild(1, List.of(ingredient("maltitol", "말티톨")));
+		snapshot.rebuild(2, List.of(ingredient("maltitol", "말티톨 시럽")));
+		snapshot.rebuild(3, List.of(ingredient("maltitol", "말티톨")));
+		snapshot.rebuild(4, List.of(ingredient("maltitol", "말티톨 분말")));
+
+		assertTrue(snapshot.delta(1).fullReloadRequired()); // 이력 2개(2→3, 3→4)만 보관
+		assertFalse(snapshot.delta(2).fullReloadRequired());
+		assertTrue(snapshot.delta(99).fullReloadRequired());
+	}
+
+	private static IngredientDictionary ingredient(String id, String name) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.build();
+	}
+
+	private static String gunzip(byte[] gzipped) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
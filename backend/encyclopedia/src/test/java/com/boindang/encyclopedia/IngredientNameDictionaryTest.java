@@ -0,0 +1,69 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.IngredientNameDictionary;
+import com.boindang.encyclopedia.common.util.BloomFilter;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+@DisplayName("📖 성분명 인메모리 사전 테스트")
+class IngredientNameDictionaryTest {
+
+	private final IngredientNameDictionary dictionary = new IngredientNameDictionary();
+
+	@Test
+	void findId_matchesNormalizedKoreanAndEnglishNames() {
+		dictionary.rebuild(List.of(
+			ingredient("maltitol", "말티톨", "Maltitol"),
+			ingredient("msg", "글루타민산 나트륨(MSG)", "Monosodium Glutamate")
+		));
+
+		assertEquals(Optional.of("maltitol"), dictionary.findId("말티톨"));
+		assertEquals(Optional.of("maltitol"), dictionary.findId(" MALTITOL "));
+		assertEquals(Optional.of("msg"), dictionary.findId("글루타민산나트륨(MSG)"));
+		assertEquals(Optional.of("msg"), dictionary.findId("monosodium glutamate"));
+		assertEquals(Optional.of("말티톨"), dictionary.findCanonicalName("maltitol"));
+		assertTrue(dictionary.findId("말티").isEmpty());
+		assertTrue(dictionary.findId("").isEmpty());
+		assertTrue(dictionary.findId(null).isEmpty());
+	}
+
+	@Test
+	void rebuild_replacesPreviousSnapshot() {
+		dictionary.rebuild(List.of(ingredient("maltitol", "말티톨", "Maltitol")));
+		dictionary.rebuild(List.of(ingredient("sucralose", "수크랄로스", "Sucralose")));
+
+		assertTrue(dictionary.findId("말티톨").isEmpty());
+		assertEquals(Optional.of("sucralose"), dictionary.findId("수크랄로스"));
+		assertEquals(1, dictionary.size());
+	}
+
+	@Test
+	void bloomFilter_hasNoFalseNegatives() {
+		BloomFilter bloom = new BloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			bloom.put("성분" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(bloom.mightContain("성분" + i));
+			if (bloom.mightContain("없는성분" + i)) falsePositives++;
+		}
+		assertTrue(falsePositives < 50, "오탐 수: " + falsePositives);
+	}
+
+	private static IngredientDictionary ingredient(String id, String name, String engName) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.engName(engName)
+			.build();
+	}
+}
@@ -0,0 +1,80 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.JamoFuzzyIndex;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.common.util.JamoEditDistance;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+
+@DisplayName("⌨️ 자모 단위 오타 교정 인덱스 테스트")
+class JamoFuzzyIndexTest {
+
+	private final JamoFuzzyIndex index = new JamoFuzzyIndex();
+
+	@BeforeEach
+	void setUp() {
+		index.rebuild(List.of(
+			ingredient("maltitol", "말티톨"),
+			ingredient("maltodextrin", "말토덱스트린"),
+			ingredient("sucralose", "수크랄로스"),
+			ingredient("aspartame", "아스파탐"),
+			ingredient("erythritol", "에리스리톨")
+		));
+	}
+
+	@Test
+	void distance_weightsKeyboardAdjacency() {
+		String maltitol = HangulUtils.decompose("말티톨");
+
+		assertEquals(1, JamoEditDistance.distance(HangulUtils.decompose("말티툴"), maltitol)); // ㅗ/ㅜ 인접
+		assertEquals(2, JamoEditDistance.distance(HangulUtils.decompose("말티탈"), maltitol)); // ㅗ/ㅏ 비인접
+		assertEquals(1, JamoEditDistance.distance(HangulUtils.decompose("수크랄로쓰"), HangulUtils.decompose("수크랄로스"))); // Shift 차이
+		assertEquals(4, JamoEditDistance.distance(HangulUtils.decompose("수크랄스"), HangulUtils.decompose("수크랄로스")));
+		assertEquals(3, JamoEditDistance.distance("abcdef", "abc", 2)); // limit 초과 시 limit + 1
+	}
+
+	@Test
+	void findClosest_correctsSingleJamoTypo() {
+		JamoFuzzyIndex.Match match = index.findClosest("말티툴").orElseThrow();
+
+		assertEquals("말티톨", match.ingredient().getName());
+		assertEquals(1, match.distance());
+		assertFalse(match.isExact());
+	}
+
+	@Test
+	void findClosest_correctsMissingSyllable() {
+		assertEquals("수크랄로스", index.findClosest("수크랄스").orElseThrow().ingredient().getName());
+		assertEquals("에리스리톨", index.findClosest("에리스리툴").orElseThrow().ingredient().getName());
+	}
+
+	@Test
+	void findClosest_returnsExactMatchWithZeroDistance() {
+		JamoFuzzyIndex.Match match = index.findClosest("아스파탐").orElseThrow();
+
+		assertTrue(match.isExact());
+		assertEquals("aspartame", match.ingredient().getId());
+	}
+
+	@Test
+	void findClosest_ignoresShortOrDistantQueries() {
+		assertTrue(index.findClosest("말").isEmpty());
+		assertTrue(index.findClosest("비타민").isEmpty());
+		assertTrue(index.findClosest("").isEmpty());
+		assertTrue(index.findClosest(null).isEmpty());
+	}
+
+	private static IngredientDictionary ingredient(String id, String name) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.build();
+	}
+}
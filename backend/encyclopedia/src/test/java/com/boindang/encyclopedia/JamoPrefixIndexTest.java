@@ -0,0 +1,56 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.JamoPrefixIndex;
+import com.boindang.encyclopedia.common.util.HangulUtils;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🔡 자모 분해 접두어 자동완성 테스트")
+class JamoPrefixIndexTest {
+
+	private final JamoPrefixIndex index = new JamoPrefixIndex();
+
+	@Test
+	void decompose_splitsCompoundJamo() {
+		assertEquals("ㅁㅏㄹㅌㅣㅌㅗㄹ", HangulUtils.decompose("말티톨"));
+		assertEquals("ㄷㅏㄹㄱ", HangulUtils.decompose("닭"));
+		assertEquals("ㄱㅗㅏ", HangulUtils.decompose("과"));
+		assertEquals("ㅂㅣㅌㅏㅁㅣㄴb12", HangulUtils.decompose("비타민 B12"));
+	}
+
+	@Test
+	void partiallyComposedInput_matchesPrefix() {
+		index.rebuild(List.of(
+			ingredient("maltitol", "말티톨"),
+			ingredient("maltodextrin", "말토덱스트린"),
+			ingredient("sucralose", "수크랄로스"),
+			ingredient("msg", "글루타민산 나트륨(MSG)")
+		));
+
+		assertEquals(List.of("말티톨"), names(index.search("말ㅌㅣ", 10)));
+		assertEquals(List.of("말토덱스트린", "말티톨"), names(index.search("말ㅌ", 10)));
+		assertEquals(List.of("수크랄로스"), names(index.search("수크ㄹ", 10)));
+		assertEquals(List.of("수크랄로스"), names(index.search("숰", 10))); // ㅅㅜㅋ
+		assertEquals(List.of("글루타민산 나트륨(MSG)"), names(index.search("나트", 10)));
+		assertTrue(index.search("말ㅎ", 10).isEmpty());
+	}
+
+	private static List<String> names(List<EncyclopediaSearchResponse> responses) {
+		return responses.stream().map(EncyclopediaSearchResponse::getName).toList();
+	}
+
+	private static IngredientDictionary ingredient(String id, String name) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.riskLevel(IngredientDictionary.RiskLevel.SAFE)
+			.build();
+	}
+}
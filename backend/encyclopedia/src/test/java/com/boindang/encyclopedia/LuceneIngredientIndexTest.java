@@ -0,0 +1,83 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.boindang.encyclopedia.application.IngredientSearchBackend;
+import com.boindang.encyclopedia.domain.IngredientDictionary;
+import com.boindang.encyclopedia.infrastructure.LuceneIngredientIndex;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🗂️ 내장 Lucene 대체 인덱스 테스트 (외부 서비스 없음)")
+class LuceneIngredientIndexTest {
+
+	@TempDir
+	Path indexDir;
+
+	private LuceneIngredientIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		index = new LuceneIngredientIndex(indexDir.toString());
+		index.open();
+		index.rebuild(List.of(
+			ingredient("maltitol", "말티톨"),
+			ingredient("maltodextrin", "말토덱스트린"),
+			ingredient("sucralose", "수크랄로스"),
+			ingredient("msg", "글루타민산 나트륨(MSG)")
+		));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		index.close();
+	}
+
+	@Test
+	void prefixSearch_matchesWordPrefixes() {
+		assertEquals(List.of("말티톨"), names(index.searchWithFuzzyFallback("말티").prefixResults()));
+		assertEquals(List.of("글루타민산 나트륨(MSG)"), names(index.searchWithFuzzyFallback("나트").prefixResults()));
+		assertEquals(2, index.searchWithFuzzyFallback("말").prefixResults().size());
+	}
+
+	@Test
+	void fuzzySearch_toleratesTypos() {
+		IngredientSearchBackend.CombinedSearchResult result = index.searchWithFuzzyFallback("수크랄로즈");
+
+		assertTrue(result.prefixResults().isEmpty());
+		assertNotNull(result.fuzzyResult());
+		assertEquals("수크랄로스", result.fuzzyResult().getName());
+	}
+
+	@Test
+	void containingSearch_andReopenFromDisk() throws Exception {
+		assertEquals(List.of("글루타민산 나트륨(MSG)"), names(index.searchContaining("msg")));
+
+		index.close();
+		LuceneIngredientIndex reopened = new LuceneIngredientIndex(indexDir.toString());
+		reopened.open();
+		assertTrue(reopened.isReady());
+		assertEquals(List.of("수크랄로스"), names(reopened.searchContaining("크랄")));
+		index = reopened;
+	}
+
+	private static List<String> names(List<EncyclopediaSearchResponse> responses) {
+		return responses.stream().map(EncyclopediaSearchResponse::getName).toList();
+	}
+
+	private static IngredientDictionary ingredient(String id, String name) {
+		return IngredientDictionary.builder()
+			.id(id)
+			.name(name)
+			.riskLevel(IngredientDictionary.RiskLevel.CAUTION)
+			.build();
+	}
+}
@@ -5,6 +5,7 @@ import static org.springframework.test.util.AssertionErrors.*;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -13,6 +14,7 @@ import com.boindang.encyclopedia.domain.Ingredient;
 import com.boindang.encyclopedia.infrastructure.IngredientRepository;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+@Tag("benchmark")
 @SpringBootTest
 @DisplayName("⏱️ MySQL 자동완성 검색 속도 측정 테스트")
 class MysqlAutocompleteBenchmarkTest {
@@ -36,7 +38,7 @@ class MysqlAutocompleteBenchmarkTest {
 			assertFalse(results.isEmpty(), "자동완성 결과 없음");
 		}
 
-		System.out.println("⏱️ MySQL 자동완성 평균 검색시간: " + (totalTime / 100_0000.0) + "ms");
+		System.out.println("⏱️ MySQL 자동완성 평균 검색시간: " + (totalTime / 1_000_000.0) + "ms");
 	}
 }
 
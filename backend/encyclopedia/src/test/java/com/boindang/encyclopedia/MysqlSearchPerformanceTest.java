@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import com.boindang.encyclopedia.domain.Ingredient;
 import com.boindang.encyclopedia.infrastructure.IngredientRepository;
 
+@Tag("benchmark")
 @SpringBootTest
 @DisplayName("MySQL 성분 검색 성능 테스트")
 class MysqlSearchPerformanceTest {
@@ -35,6 +37,6 @@ class MysqlSearchPerformanceTest {
 			assertTrue(result.isPresent());
 		}
 
-		System.out.println("MySQL 평균 검색시간: " + (totalTime / 100_0000.0) + "ms");
+		System.out.println("MySQL 평균 검색시간: " + (totalTime / 1_000_000.0) + "ms");
 	}
 }
@@ -0,0 +1,52 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.search.SearchHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.mapper.SearchHitSummaryDecoder;
+import com.boindang.encyclopedia.presentation.dto.response.EncyclopediaSearchResponse;
+
+@DisplayName("🧾 검색 hit 요약 디코더 테스트")
+class SearchHitSummaryDecoderTest {
+
+	private static final String FULL_SOURCE = """
+		{"id":"maltitol","gi":35,"cons":["과다 섭취 시 설사"],"type":"당알코올","engName":"Maltitol",
+		 "compareTable":{"rows":[{"name":"자일리톨","values":["7","2.4"]}],"labels":["성분명","GI지수"]},
+		 "name":"말티톨","riskLevel":"CAUTION","description":null,"sweetness":0.9}
+		""";
+
+	@Test
+	void decode_readsSummaryFieldsAndSkipsNestedValues() {
+		SearchHit hit = new SearchHit(0);
+		hit.sourceRef(new BytesArray(FULL_SOURCE));
+
+		EncyclopediaSearchResponse decoded = SearchHitSummaryDecoder.decode(hit);
+		EncyclopediaSearchResponse legacy = EncyclopediaSearchResponse.from2(hit.getSourceAsMap());
+
+		assertEquals("maltitol", decoded.getId());
+		assertEquals("말티톨", decoded.getName());
+		assertEquals("Maltitol", decoded.getEngName());
+		assertEquals("당알코올", decoded.getType());
+		assertEquals("주의", decoded.getRiskLevel());
+		assertEquals(legacy.getId(), decoded.getId());
+		assertEquals(legacy.getName(), decoded.getName());
+		assertEquals(legacy.getRiskLevel(), decoded.getRiskLevel());
+	}
+
+	@Test
+	void decode_acceptsRiskLabelAndMissingFields() {
+		EncyclopediaSearchResponse labeled = SearchHitSummaryDecoder.decode(
+			new BytesArray("{\"id\":\"stevia\",\"name\":\"스테비아\",\"riskLevel\":\"안심\"}"));
+		EncyclopediaSearchResponse missing = SearchHitSummaryDecoder.decode(new BytesArray("{\"name\":\"알룰로스\"}"));
+
+		assertEquals("안심", labeled.getRiskLevel());
+		assertNull(missing.getId());
+		assertNull(missing.getEngName());
+		assertEquals("정보 없음", missing.getRiskLevel());
+		assertEquals("정보 없음", SearchHitSummaryDecoder.decode((BytesArray) null).getRiskLevel());
+	}
+}
@@ -0,0 +1,47 @@
+package com.boindang.encyclopedia;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.boindang.encyclopedia.application.SearchResultCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("🗂️ 검색 결과 캐시 테스트")
+class SearchResultCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SearchResultCache cache = new SearchResultCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+	@Test
+	void get_recordsHitAndMissMetrics() {
+		AtomicInteger loads = new AtomicInteger();
+		cache.get("말티톨", true, () -> result(loads.incrementAndGet()));
+		cache.get("말티톨", true, () -> result(loads.incrementAndGet()));
+
+		assertEquals(1, loads.get());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "search-result").tag("result", "hit").functionCounter().count());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "search-result").tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	void get_doesNotKeepFailedLoadEvenForError() {
+		assertThrows(StackOverflowError.class, () -> cache.get("말티톨", true, () -> {
+			throw new StackOverflowError();
+		}));
+
+		// 실패한 future 가 남아 있으면 여기서 join() 에 걸려 멈춤
+		SearchResultCache.SearchResult result = cache.get("말티톨", true, () -> result(1));
+		assertEquals("말티톨1", result.suggestedName());
+	}
+
+	private static SearchResultCache.SearchResult result(int n) {
+		return new SearchResultCache.SearchResult("말티톨" + n, List.of());
+	}
+}
@@ -0,0 +1,12 @@
+-- campaign 목록 필터링용 인덱스 (MySQL 8.0)
+--
+-- - campaign 서비스는 ddl-auto: none 으로 동작하므로 엔티티의 @Table/@CollectionTable(indexes=...) 선언은 적용되지 않습니다.
+--   운영/개발 DB에 이 스크립트를 한 번 실행해 인덱스를 만듭니다.
+-- - 해시태그 필터는 campaign_hashtags(hashtag, campaign_id) 로 해당 해시태그의 캠페인 id 만 읽습니다. (커버링 인덱스)
+-- - 카테고리 필터는 (main_category, sub_category) 복합 인덱스를 사용합니다. (대분류만 지정해도 선두 컬럼으로 사용)
+
+CREATE INDEX `idx_campaign_hashtags_hashtag`
+  ON `campaign_hashtags` (`hashtag`, `campaign_id`);
+
+CREATE INDEX `idx_campaign_category`
+  ON `campaign` (`main_category`, `sub_category`);
@@ -0,0 +1,27 @@
+-- encyclopedia_json 검색용 인덱스 (MySQL 8.0.21+)
+--
+-- - 자주 조회하는 JSON 필드를 STORED 생성 컬럼으로 꺼내 인덱스를 만들 수 있게 합니다.
+-- - name 에 ngram 파서 FULLTEXT 인덱스를 추가해 '%검색어%' 전체 스캔 대신 역색인으로 포함 검색을 합니다.
+--   (ngram_token_size 기본값 2: 한 글자 검색어는 name 접두어 인덱스로 처리)
+-- - 카테고리별 정렬(이름/GI/감미도) 조회가 인덱스 순서대로 읽히도록 복합 인덱스를 추가합니다.
+
+ALTER TABLE `encyclopedia_json`
+  ADD COLUMN `category` VARCHAR(50)
+    GENERATED ALWAYS AS (JSON_VALUE(`data`, '$.category' RETURNING CHAR(50))) STORED,
+  ADD COLUMN `ingredient_type` VARCHAR(100)
+    GENERATED ALWAYS AS (JSON_VALUE(`data`, '$.type' RETURNING CHAR(100))) STORED,
+  ADD COLUMN `eng_name` VARCHAR(255)
+    GENERATED ALWAYS AS (JSON_VALUE(`data`, '$.engName' RETURNING CHAR(255))) STORED,
+  ADD COLUMN `gi` INT
+    GENERATED ALWAYS AS (JSON_VALUE(`data`, '$.gi' RETURNING SIGNED)) STORED,
+  ADD COLUMN `sweetness` DECIMAL(10, 2)
+    GENERATED ALWAYS AS (JSON_VALUE(`data`, '$.sweetness' RETURNING DECIMAL(10, 2))) STORED;
+
+ALTER TABLE `encyclopedia_json`
+  ADD INDEX `idx_encyclopedia_name` (`name`),
+  ADD INDEX `idx_encyclopedia_category_name` (`category`, `name`),
+  ADD INDEX `idx_encyclopedia_category_gi` (`category`, `gi`),
+  ADD INDEX `idx_encyclopedia_category_sweetness` (`category`, `sweetness`);
+
+ALTER TABLE `encyclopedia_json`
+  ADD FULLTEXT INDEX `ft_encyclopedia_name` (`name`) WITH PARSER ngram;